@@ -19,12 +19,29 @@ import com.hypixel.hytale.server.core.universe.world.WorldConfig;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 import com.hypixel.hytale.server.core.universe.world.spawn.ISpawnProvider;
 import no.sdev.worldwipe.commands.WorldWipePluginCommand;
+import no.sdev.worldwipe.config.ConfigWatcher;
+import no.sdev.worldwipe.config.WorldConfigFiles;
 import no.sdev.worldwipe.config.WorldWipeConfig;
+import no.sdev.worldwipe.persistence.AtomicFiles;
+import no.sdev.worldwipe.persistence.WriteBehindPersistence;
+import no.sdev.worldwipe.tracking.LastSeenJournal;
+import no.sdev.worldwipe.tracking.LastSeenMap;
+import no.sdev.worldwipe.tracking.LastSeenStore;
+import no.sdev.worldwipe.tracking.ShardedLastSeenStore;
+import no.sdev.worldwipe.tracking.WipeEpochs;
+import no.sdev.worldwipe.world.WipeCountdownService;
+import no.sdev.worldwipe.world.WorldEvacuationService;
+import no.sdev.worldwipe.world.WorldKey;
+import no.sdev.worldwipe.world.WorldReturnQueue;
+import no.sdev.worldwipe.world.WorldRuleMatcher;
 
 import javax.annotation.Nonnull;
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
 import java.lang.reflect.Type;
 import java.time.DayOfWeek;
 import java.time.Duration;
@@ -34,19 +51,27 @@ import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 
 public class WorldWipePlugin extends JavaPlugin {
@@ -69,13 +94,114 @@ public class WorldWipePlugin extends JavaPlugin {
 
     private enum OfflineTrackingMode {
         ALL,
-        RESET_WORLD_ONLY
+        RESET_WORLD_ONLY,
+        PER_WORLD
     }
 
     private static final String DEFAULT_PROTECTED_WORLD = "default";
     private static final String DEFAULT_RESET_WORLD = "resource";
     private static final String PLAYER_LAST_SEEN_FILE = "player-last-seen.json";
+    private static final String PLAYER_LAST_SEEN_SNAPSHOT_FILE = "player-last-seen.bin";
+    private static final String PLAYER_LAST_SEEN_JOURNAL_FILE = "player-last-seen.journal";
+    private static final String PLAYER_SEEN_EPOCH_SNAPSHOT_FILE = "player-seen-epoch.bin";
+    private static final String PLAYER_SEEN_EPOCH_JOURNAL_FILE = "player-seen-epoch.journal";
+    private static final String PLAYER_SEEN_EPOCH_DIRECTORY = "last-seen";
+    private static final String WORLD_CONFIG_DIRECTORY = "worlds";
+    private static final long LAST_SEEN_COMPACT_INTERVAL_MINUTES = 10L;
+    private static final long LAST_SEEN_COMPACT_THRESHOLD = 50_000L;
+    private static final long WORLD_PRESENCE_SAMPLE_SECONDS = 5L;
+    private static final long RULE_WORLD_CHECK_SECONDS = 30L;
+    private static final long OFFLINE_STATE_WAIT_MILLIS = 2_000L;
     private static final String WORLD_LAST_WIPE_FILE = "world-last-wipe.json";
+    private static final String WORLD_WIPE_EPOCH_FILE = "world-wipe-epochs.json";
+
+    private static final String CONFIG_STATE = "config";
+    private static final Set<String> SCHEDULE_SETTINGS = Set.of(
+            "schedulingEnabled",
+            "protectedWorld",
+            "countdownEnabled",
+            "countdownWarnings",
+            "worldRules"
+    );
+    private static final String WORLD_LAST_WIPE_STATE = "world-last-wipe";
+    private static final String PLAYER_LAST_SEEN_STATE = "player-last-seen";
+
+    private record WipeEpochData(long current, Map<String, Long> worlds) {
+    }
+
+    private record WipeState(
+            List<String> protectedWorlds,
+            List<WorldSchedule> worldSchedules,
+            List<String> resetWorlds,
+            Set<WorldKey> protectedWorldKeys,
+            Set<WorldKey> resetWorldKeys,
+            String destinationWorldName,
+            Map<WorldKey, Boolean> worldRegenerateOnWipe,
+            Map<WorldKey, Instant> worldLastWipe,
+            WorldRuleMatcher<WorldRule> worldRules,
+            boolean schedulingEnabled,
+            boolean regenerateOnWipe,
+            boolean offlineTrackingEnabled,
+            boolean offlineTrackingSaveFile,
+            int offlineTrackingMaxDays,
+            OfflineTrackingMode offlineTrackingMode,
+            boolean countdownEnabled,
+            List<Duration> countdownWarnings,
+            boolean returnAfterWipe,
+            Duration returnWarmup,
+            int returnBatchSize,
+            Duration returnBatchInterval,
+            Duration persistenceFlushInterval,
+            int dashboardPageSize
+    ) {
+        private static final WipeState DEFAULT = new WipeState(
+                List.of(DEFAULT_PROTECTED_WORLD),
+                List.of(),
+                List.of(),
+                knownWorldKeyIndex(List.of(DEFAULT_PROTECTED_WORLD)),
+                Set.of(),
+                DEFAULT_PROTECTED_WORLD,
+                Map.of(),
+                Map.of(),
+                WorldRuleMatcher.compile(Map.of()),
+                false,
+                false,
+                true,
+                true,
+                90,
+                OfflineTrackingMode.ALL,
+                true,
+                List.of(),
+                false,
+                Duration.ofSeconds(10),
+                5,
+                Duration.ofSeconds(2),
+                Duration.ofSeconds(5),
+                10
+        );
+    }
+
+    private record WorldRule(boolean protectedWorld, ScheduleSpec schedule, Boolean regenerateOnWipe) {
+    }
+
+    private interface ConfigMutation {
+        boolean apply(WorldWipeConfig config);
+    }
+
+    public record NextWipe(Instant at, List<String> worlds) {
+        private static final NextWipe NONE = new NextWipe(null, List.of());
+    }
+
+    private static final class WorldPresence {
+        private WorldKey world;
+        private long tick;
+    }
+
+    private record RuleWorldCache(WipeState state, Set<String> loaded, List<FileTime> stamps, List<String> worlds) {
+    }
+
+    private record OfflineStateKey(boolean enabled, boolean saveFile, LastSeenStore.Backing backing) {
+    }
 
     public record WorldSchedule(
             String world,
@@ -87,6 +213,23 @@ public class WorldWipePlugin extends JavaPlugin {
     ) {
     }
 
+    public record ScheduleChange(
+            String world,
+            ScheduleMode mode,
+            DayOfWeek day,
+            int dayOfMonth,
+            LocalTime time,
+            String zone
+    ) {
+        public static ScheduleChange remove(String world) {
+            return new ScheduleChange(world, null, null, DEFAULT_SCHEDULE_DAY_OF_MONTH, null, null);
+        }
+
+        public boolean isRemoval() {
+            return mode == null;
+        }
+    }
+
     public record WipeResult(
             boolean success,
             String message
@@ -103,30 +246,51 @@ public class WorldWipePlugin extends JavaPlugin {
     }
 
     private final AtomicBoolean wipeInProgress = new AtomicBoolean(false);
+    private final WipeCountdownService countdownService = new WipeCountdownService();
+    private final WorldReturnQueue returnQueue = new WorldReturnQueue();
 
-    private ScheduledExecutorService scheduler;
+    private volatile ScheduledExecutorService scheduler;
     private ScheduledFuture<?> scheduledWipeFuture;
-    private volatile Instant nextScheduledWipeAt;
-
-    private volatile List<String> protectedWorlds = new ArrayList<>(List.of(DEFAULT_PROTECTED_WORLD));
-    private volatile List<WorldSchedule> worldSchedules = new ArrayList<>();
-    private volatile List<String> nextScheduledWorlds = new ArrayList<>();
-    private volatile boolean schedulingEnabled = false;
-    private volatile boolean regenerateOnWipe = false;
-    private volatile boolean offlineTrackingEnabled = true;
-    private volatile boolean offlineTrackingSaveFile = true;
-    private volatile int offlineTrackingMaxDays = 90;
-    private volatile OfflineTrackingMode offlineTrackingMode = OfflineTrackingMode.ALL;
-    private volatile HashMap<String, Boolean> worldRegenerateOnWipe = new HashMap<>();
-    private volatile HashMap<String, Instant> worldLastWipe = new HashMap<>();
-    private final Map<UUID, Instant> playerLastSeen = new ConcurrentHashMap<>();
-    private final Map<String, Instant> offlineWorldLastWipe = new ConcurrentHashMap<>();
+    private final Object scheduleLock = new Object();
+    private volatile NextWipe nextWipe = NextWipe.NONE;
+
+    private volatile WipeState state = WipeState.DEFAULT;
+    private final AtomicLong stateVersion = new AtomicLong();
+    private final Map<UUID, WorldPresence> worldPresence = new ConcurrentHashMap<>();
+    private long worldPresenceTick;
+    private final ShardedLastSeenStore playerSeenEpochs = new ShardedLastSeenStore(
+            Paths.get("mods", "WorldWipe", PLAYER_SEEN_EPOCH_DIRECTORY)
+    );
+    private final WipeEpochs wipeEpochs = new WipeEpochs();
+    private final WriteBehindPersistence persistence = new WriteBehindPersistence();
+    private final Object configLock = new Object();
+    private WorldWipeConfig configModel;
+    private volatile String lastWrittenConfigYaml;
+    private final ConfigWatcher configWatcher = new ConfigWatcher(resolveConfigPath(), this::applyConfigFileChange);
+    private final WorldConfigFiles worldConfigFiles = new WorldConfigFiles(
+            Paths.get("mods", "WorldWipe", WORLD_CONFIG_DIRECTORY)
+    );
+    private final ConfigWatcher worldConfigWatcher = new ConfigWatcher(
+            worldConfigFiles.directory(),
+            WorldConfigFiles::isWorldFile,
+            this::applyWorldConfigFileChanges
+    );
+    private OfflineStateKey loadedOfflineState;
+    private final Object offlineStateLock = new Object();
+    private volatile CountDownLatch offlineStateReady = new CountDownLatch(0);
+    private final AtomicBoolean lastSeenCompactionQueued = new AtomicBoolean(false);
+    private final Map<WorldKey, Instant> offlineWorldLastWipe = new ConcurrentHashMap<>();
+    private volatile Set<WorldKey> armedRuleWorlds = Set.of();
+    private volatile RuleWorldCache ruleWorldCache;
     private EventRegistration<?, ?> playerConnectRegistration;
     private EventRegistration<?, ?> playerDisconnectRegistration;
 
     public WorldWipePlugin(@Nonnull JavaPluginInit init) {
         super(init);
         instance = this;
+        persistence.register(CONFIG_STATE, this::writeConfigModel);
+        persistence.register(WORLD_LAST_WIPE_STATE, this::writeOfflineWorldLastWipe);
+        persistence.register(PLAYER_LAST_SEEN_STATE, playerSeenEpochs::flush);
     }
 
     public static WorldWipePlugin getInstance() {
@@ -136,12 +300,16 @@ public class WorldWipePlugin extends JavaPlugin {
     @Override
     protected void setup() {
         LOGGER.at(Level.INFO).log("[WorldWipe] Setting up...");
+        long startedAt = System.nanoTime();
 
         loadConfig();
 
         registerCommands();
         registerEvents();
-        LOGGER.at(Level.INFO).log("[WorldWipe] Setup complete!");
+        LOGGER.at(Level.INFO).log(
+                "[WorldWipe] Setup complete in %s ms.",
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)
+        );
     }
 
     @Override
@@ -149,19 +317,43 @@ public class WorldWipePlugin extends JavaPlugin {
         LOGGER.at(Level.INFO).log("[WorldWipe] Started!");
         LOGGER.at(Level.INFO).log("[WorldWipe] Use /wipe help for commands");
 
-        loadConfig();
         startSchedulerIfNeeded();
         catchUpMissedWipes();
         scheduleNextAutomaticWipe();
+        try {
+            configWatcher.start();
+        } catch (IOException e) {
+            LOGGER.at(Level.WARNING).withCause(e).log("[WorldWipe] Failed to watch config file for changes.");
+        }
+        synchronized (configLock) {
+            if (configModel.usesWorldFiles()) {
+                startWorldConfigWatcher();
+            }
+        }
     }
 
     @Override
     protected void shutdown() {
         LOGGER.at(Level.INFO).log("[WorldWipe] Shutting down...");
-        savePlayerLastSeen();
-        saveOfflineWorldLastWipe();
+        try {
+            configWatcher.close();
+            worldConfigWatcher.close();
+        } catch (IOException ignored) {
+        }
         unregisterEvents();
         stopScheduler();
+        awaitOfflineState();
+        persistence.flush();
+        compactPlayerLastSeen();
+        closePlayerLastSeenJournal();
+        WriteBehindPersistence.Metrics metrics = persistence.metrics();
+        LOGGER.at(Level.INFO).log(
+                "[WorldWipe] State writes: %s (%s coalesced), average flush %s us, max %s us.",
+                metrics.writes(),
+                metrics.coalesced(),
+                metrics.averageFlushMicros(),
+                metrics.maxFlushMicros()
+        );
         instance = null;
     }
 
@@ -203,8 +395,12 @@ public class WorldWipePlugin extends JavaPlugin {
             playerDisconnectRegistration = null;
         }
     }
+    public NextWipe getNextWipe() {
+        return nextWipe;
+    }
+
     public Instant getNextScheduledWipeAt() {
-        return nextScheduledWipeAt;
+        return nextWipe.at();
     }
 
     public String getScheduledTargetWorld() {
@@ -216,11 +412,32 @@ public class WorldWipePlugin extends JavaPlugin {
     }
 
     public List<String> getProtectedWorlds() {
-        return protectedWorlds == null ? List.of() : new ArrayList<>(protectedWorlds);
+        return state.protectedWorlds();
+    }
+
+    public boolean isProtectedWorld(String worldName) {
+        return worldName != null && !worldName.isBlank() && isProtectedWorld(state, worldName);
+    }
+
+    public boolean isWorldSchedulable(String worldName) {
+        Universe universe = Universe.get();
+        return universe == null || isWorldSchedulable(universe, worldName);
+    }
+
+    private boolean isWorldSchedulable(Universe universe, String worldName) {
+        if (worldName == null) {
+            return false;
+        }
+        return universe.getWorld(worldName) != null
+                || universe.isWorldLoadable(worldName)
+                || shouldRegenerateWorld(worldName);
     }
 
     public String getPrimaryProtectedWorld() {
-        List<String> worlds = getProtectedWorlds();
+        return state.destinationWorldName();
+    }
+
+    private static String resolvePrimaryProtectedWorld(List<String> worlds) {
         if (worlds.isEmpty()) {
             return DEFAULT_PROTECTED_WORLD;
         }
@@ -233,24 +450,26 @@ public class WorldWipePlugin extends JavaPlugin {
     }
 
     public List<String> getResetWorlds() {
+        return state.resetWorlds();
+    }
+
+    private static List<String> resolveResetWorlds(List<WorldSchedule> schedules) {
         List<String> worlds = new ArrayList<>();
-        if (worldSchedules == null) {
-            return worlds;
-        }
-        for (WorldSchedule schedule : worldSchedules) {
+        for (WorldSchedule schedule : schedules) {
             if (schedule == null || schedule.world() == null || schedule.world().isBlank()) {
                 continue;
             }
             worlds.add(schedule.world());
         }
-        return worlds;
+        return List.copyOf(worlds);
     }
 
     private void handlePlayerConnect(PlayerConnectEvent event) {
         if (event == null) {
             return;
         }
-        if (!offlineTrackingEnabled) {
+        WipeState current = state;
+        if (!current.offlineTrackingEnabled()) {
             return;
         }
         World targetWorld = event.getWorld();
@@ -261,27 +480,31 @@ public class WorldWipePlugin extends JavaPlugin {
         if (worldName == null || worldName.isBlank()) {
             return;
         }
-        if (isProtectedWorld(worldName, getProtectedWorlds())) {
+        if (isProtectedWorld(current, worldName)) {
             return;
         }
 
-        List<String> resetWorlds = getResetWorlds();
-        boolean isResetWorld = resetWorlds.stream()
-                .anyMatch(name -> name != null && name.equalsIgnoreCase(worldName));
-        if (!isResetWorld) {
+        WorldKey worldKey = resetWorldKey(current, worldName);
+        if (worldKey == null) {
             return;
         }
+        awaitOfflineState();
 
-        Instant lastWipe = getOfflineWorldLastWipe(worldName);
-        if (lastWipe == null) {
+        long worldEpoch = wipeEpochs.get(worldKey);
+        if (worldEpoch == WipeEpochs.NONE) {
             return;
         }
 
         PlayerRef playerRef = event.getPlayerRef();
         UUID playerId = playerRef != null ? playerRef.getUuid() : null;
-        Instant lastSeen = playerId != null ? playerLastSeen.get(playerId) : null;
+        long seenEpoch = LastSeenMap.MISSING;
+        if (playerId != null) {
+            seenEpoch = current.offlineTrackingMode() == OfflineTrackingMode.PER_WORLD
+                    ? playerSeenEpochs.get(playerId, ShardedLastSeenStore.worldScope(worldKey.value()))
+                    : playerSeenEpochs.get(playerId);
+        }
 
-        if (lastSeen != null && !lastWipe.isAfter(lastSeen)) {
+        if (seenEpoch != LastSeenMap.MISSING && worldEpoch <= seenEpoch) {
             return;
         }
 
@@ -339,7 +562,8 @@ public class WorldWipePlugin extends JavaPlugin {
         if (event == null) {
             return;
         }
-        if (!offlineTrackingEnabled) {
+        WipeState current = state;
+        if (!current.offlineTrackingEnabled()) {
             return;
         }
         PlayerRef playerRef = event.getPlayerRef();
@@ -350,7 +574,9 @@ public class WorldWipePlugin extends JavaPlugin {
         if (playerId == null) {
             return;
         }
-        if (offlineTrackingMode == OfflineTrackingMode.RESET_WORLD_ONLY) {
+        worldPresence.remove(playerId);
+        long worldScope = ShardedLastSeenStore.GLOBAL_SCOPE;
+        if (current.offlineTrackingMode() != OfflineTrackingMode.ALL) {
             World currentWorld = null;
             try {
                 currentWorld = Universe.get().getWorld(playerRef.getWorldUuid());
@@ -360,31 +586,86 @@ public class WorldWipePlugin extends JavaPlugin {
             if (worldName == null || worldName.isBlank()) {
                 return;
             }
-            List<String> resetWorlds = getResetWorlds();
-            boolean isResetWorld = resetWorlds.stream()
-                    .anyMatch(name -> name != null && name.equalsIgnoreCase(worldName));
-            if (!isResetWorld) {
+            WorldKey worldKey = resetWorldKey(current, worldName);
+            if (worldKey == null) {
+                return;
+            }
+            if (current.offlineTrackingMode() == OfflineTrackingMode.PER_WORLD) {
+                worldScope = ShardedLastSeenStore.worldScope(worldKey.value());
+            }
+        }
+        awaitOfflineState();
+        recordPlayerSeen(playerId, worldScope);
+    }
+
+    private void recordPlayerSeen(UUID playerId, long worldScope) {
+        long seenRecord = playerSeenEpochs.put(playerId, worldScope, wipeEpochs.current(), LastSeenStore.today());
+        appendPlayerLastSeen(playerId, worldScope, seenRecord);
+    }
+
+    private void sampleWorldPresence() {
+        try {
+            WipeState snapshot = state;
+            if (!snapshot.offlineTrackingEnabled() || snapshot.offlineTrackingMode() != OfflineTrackingMode.PER_WORLD) {
+                worldPresence.clear();
+                return;
+            }
+            if (offlineStateReady.getCount() > 0L) {
                 return;
             }
+            long tick = ++worldPresenceTick;
+            for (World world : Universe.get().getWorlds().values()) {
+                String worldName = world != null ? world.getName() : null;
+                WorldKey worldKey = worldName != null ? resetWorldKey(snapshot, worldName) : null;
+                Collection<PlayerRef> players = worldKey != null ? world.getPlayerRefs() : null;
+                if (players == null) {
+                    continue;
+                }
+                for (PlayerRef player : players) {
+                    UUID playerId = player != null ? player.getUuid() : null;
+                    if (playerId == null) {
+                        continue;
+                    }
+                    WorldPresence presence = worldPresence.computeIfAbsent(playerId, ignored -> new WorldPresence());
+                    if (!worldKey.equals(presence.world)) {
+                        presence.world = worldKey;
+                        recordPlayerSeen(playerId, ShardedLastSeenStore.worldScope(worldKey.value()));
+                    }
+                    presence.tick = tick;
+                }
+            }
+            worldPresence.values().removeIf(presence -> presence.tick != tick);
+        } catch (Exception e) {
+            LOGGER.at(Level.WARNING).withCause(e).log("[WorldWipe] Failed to sample reset world presence.");
         }
-        playerLastSeen.put(playerId, Instant.now());
-        savePlayerLastSeen();
     }
 
     public List<WorldSchedule> getWorldSchedules() {
-        return worldSchedules == null ? List.of() : new ArrayList<>(worldSchedules);
+        return state.worldSchedules();
     }
 
     public List<String> getNextScheduledWorlds() {
-        return nextScheduledWorlds == null ? List.of() : new ArrayList<>(nextScheduledWorlds);
+        return nextWipe.worlds();
+    }
+
+    public long getStateVersion() {
+        return stateVersion.get();
+    }
+
+    public WriteBehindPersistence.Metrics getPersistenceMetrics() {
+        return persistence.metrics();
     }
 
     public boolean isSchedulingEnabled() {
-        return schedulingEnabled;
+        return state.schedulingEnabled();
+    }
+
+    public int getDashboardPageSize() {
+        return state.dashboardPageSize();
     }
 
     public boolean isRegenerateOnWipe() {
-        return regenerateOnWipe;
+        return state.regenerateOnWipe();
     }
 
     public boolean isRegenerateOnWipe(String worldName) {
@@ -399,7 +680,7 @@ public class WorldWipePlugin extends JavaPlugin {
 
         boolean startedCleanup = false;
         try {
-            if (!schedulingEnabled) {
+            if (!state.schedulingEnabled()) {
                 LOGGER.at(Level.INFO).log("[WorldWipe] Scheduled wipe skipped: scheduling disabled.");
                 return;
             }
@@ -436,22 +717,65 @@ public class WorldWipePlugin extends JavaPlugin {
 
     private World resolveDestinationWorld() {
         Universe universe = Universe.get();
-        String destinationWorldName = getPrimaryProtectedWorld();
-        World destinationWorld = destinationWorldName != null
-                ? universe.getWorld(destinationWorldName)
-                : null;
-        if (destinationWorld == null) {
-            destinationWorld = universe.getDefaultWorld();
+        String worldName = state.destinationWorldName();
+        World resolved = worldName != null ? universe.getWorld(worldName) : null;
+        return resolved != null ? resolved : universe.getDefaultWorld();
+    }
+
+    private static Set<WorldKey> worldKeyIndex(List<String> worldNames) {
+        return worldKeyIndex(worldNames, false);
+    }
+
+    private static Set<WorldKey> knownWorldKeyIndex(List<String> worldNames) {
+        return worldKeyIndex(worldNames, true);
+    }
+
+    private static Set<WorldKey> worldKeyIndex(List<String> worldNames, boolean known) {
+        Set<WorldKey> index = new HashSet<>();
+        for (String worldName : worldNames) {
+            WorldKey key = known ? WorldKey.intern(worldName) : WorldKey.of(worldName);
+            if (key != null) {
+                index.add(key);
+            }
+        }
+        return Set.copyOf(index);
+    }
+
+    private static WorldKey worldKey(Set<WorldKey> worldKeys, String worldName) {
+        WorldKey key = WorldKey.of(worldName);
+        return key != null && worldKeys.contains(key) ? key : null;
+    }
+
+    private static boolean isProtectedWorld(WipeState current, String worldName) {
+        if (worldKey(current.protectedWorldKeys(), worldName) != null) {
+            return true;
+        }
+        if (current.worldRules().isEmpty() || worldKey(current.resetWorldKeys(), worldName) != null) {
+            return false;
+        }
+        WorldRule rule = current.worldRules().match(worldName);
+        return rule != null && rule.protectedWorld();
+    }
+
+    private static WorldKey resetWorldKey(WipeState current, String worldName) {
+        WorldKey key = worldKey(current.resetWorldKeys(), worldName);
+        if (key != null || current.worldRules().isEmpty()) {
+            return key;
+        }
+        if (worldKey(current.protectedWorldKeys(), worldName) != null) {
+            return null;
         }
-        return destinationWorld;
+        WorldRule rule = current.worldRules().match(worldName);
+        return rule != null && !rule.protectedWorld() && rule.schedule() != null
+                ? WorldKey.of(worldName)
+                : null;
     }
 
     private boolean executeWipeForWorld(String targetWorldName, World destinationWorld) {
         if (targetWorldName == null || targetWorldName.isBlank()) {
             return false;
         }
-        List<String> protectedList = getProtectedWorlds();
-        if (isProtectedWorld(targetWorldName, protectedList)) {
+        if (isProtectedWorld(state, targetWorldName)) {
             LOGGER.at(Level.INFO).log(
                     "[WorldWipe] Skipping protected world '%s' in scheduled wipe.",
                     targetWorldName
@@ -474,8 +798,7 @@ public class WorldWipePlugin extends JavaPlugin {
         World resettingWorld = universe.getWorld(targetWorldName);
 
         if (resettingWorld != null) {
-            no.sdev.worldwipe.world.WorldEvacuationService.evacuate(resettingWorld, destinationWorld);
-            scheduleWorldCleanup(targetWorldName, shouldRegenerate, 0);
+            evacuateThenCleanup(resettingWorld, destinationWorld, shouldRegenerate);
             return true;
         }
 
@@ -491,10 +814,12 @@ public class WorldWipePlugin extends JavaPlugin {
     }
 
     private void catchUpMissedWipes() {
-        if (!schedulingEnabled) {
+        if (!state.schedulingEnabled()) {
             return;
         }
-        List<WorldSchedule> schedules = getWorldSchedules();
+        List<String> ruleWorlds = ruleScheduledWorlds(state, Universe.get());
+        Set<WorldKey> ruleWorldKeys = knownWorldKeyIndex(ruleWorlds);
+        List<WorldSchedule> schedules = withRuleSchedules(getWorldSchedules(), ruleWorlds);
         if (schedules.isEmpty()) {
             return;
         }
@@ -504,6 +829,10 @@ public class WorldWipePlugin extends JavaPlugin {
             if (schedule == null) {
                 continue;
             }
+            Instant lastWipe = getLastWipeInstant(schedule.world());
+            if (lastWipe == null && worldKey(ruleWorldKeys, schedule.world()) != null) {
+                continue;
+            }
             ZoneId zone = schedule.zone() != null ? schedule.zone() : ZoneId.systemDefault();
             ZonedDateTime now = ZonedDateTime.now(zone);
             ZonedDateTime last = calculatePreviousOccurrence(
@@ -517,7 +846,6 @@ public class WorldWipePlugin extends JavaPlugin {
                 continue;
             }
             Instant lastInstant = last.toInstant();
-            Instant lastWipe = getLastWipeInstant(schedule.world());
             if (lastWipe == null || lastWipe.isBefore(lastInstant)) {
                 missedWorlds.add(schedule.world());
             }
@@ -545,7 +873,7 @@ public class WorldWipePlugin extends JavaPlugin {
         }
 
         scheduler.schedule(() -> {
-            if (!schedulingEnabled) {
+            if (!state.schedulingEnabled()) {
                 return;
             }
             if (!wipeInProgress.compareAndSet(false, true)) {
@@ -645,6 +973,12 @@ public class WorldWipePlugin extends JavaPlugin {
     }
 
     private void startSchedulerIfNeeded() {
+        synchronized (scheduleLock) {
+            startScheduler();
+        }
+    }
+
+    private void startScheduler() {
         if (scheduler != null) return;
 
         scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
@@ -652,9 +986,37 @@ public class WorldWipePlugin extends JavaPlugin {
             t.setDaemon(true);
             return t;
         });
+        scheduler.scheduleWithFixedDelay(
+                this::compactPlayerLastSeenIfNeeded,
+                LAST_SEEN_COMPACT_INTERVAL_MINUTES,
+                LAST_SEEN_COMPACT_INTERVAL_MINUTES,
+                TimeUnit.MINUTES
+        );
+        scheduler.scheduleWithFixedDelay(
+                this::sampleWorldPresence,
+                WORLD_PRESENCE_SAMPLE_SECONDS,
+                WORLD_PRESENCE_SAMPLE_SECONDS,
+                TimeUnit.SECONDS
+        );
+        scheduler.scheduleWithFixedDelay(
+                this::rearmIfRuleWorldsChanged,
+                RULE_WORLD_CHECK_SECONDS,
+                RULE_WORLD_CHECK_SECONDS,
+                TimeUnit.SECONDS
+        );
+        persistence.start(scheduler, state.persistenceFlushInterval());
     }
 
     private void stopScheduler() {
+        synchronized (scheduleLock) {
+            shutdownScheduler();
+        }
+    }
+
+    private void shutdownScheduler() {
+        countdownService.cancel();
+        returnQueue.clear();
+        persistence.stop();
         if (scheduledWipeFuture != null) {
             scheduledWipeFuture.cancel(false);
             scheduledWipeFuture = null;
@@ -663,7 +1025,12 @@ public class WorldWipePlugin extends JavaPlugin {
             scheduler.shutdownNow();
             scheduler = null;
         }
-        nextScheduledWipeAt = null;
+        publishNextWipe(null, List.of());
+    }
+
+    private void publishNextWipe(Instant at, List<String> worlds) {
+        nextWipe = at != null ? new NextWipe(at, worlds) : NextWipe.NONE;
+        stateVersion.incrementAndGet();
     }
 
     private ZonedDateTime calculateNextOccurrence(
@@ -740,6 +1107,12 @@ public class WorldWipePlugin extends JavaPlugin {
     }
 
     public void scheduleNextAutomaticWipe() {
+        synchronized (scheduleLock) {
+            armNextAutomaticWipe();
+        }
+    }
+
+    private void armNextAutomaticWipe() {
         startSchedulerIfNeeded();
 
         if (scheduledWipeFuture != null) {
@@ -757,9 +1130,7 @@ public class WorldWipePlugin extends JavaPlugin {
                     continue;
                 }
                 String worldName = schedule.world();
-                boolean loaded = worldName != null && universe.getWorld(worldName) != null;
-                boolean loadable = worldName != null && universe.isWorldLoadable(worldName);
-                if (!loaded && !loadable && !shouldRegenerateWorld(worldName)) {
+                if (!isWorldSchedulable(universe, worldName)) {
                     pruneSchedules.add(worldName);
                 }
             }
@@ -771,16 +1142,19 @@ public class WorldWipePlugin extends JavaPlugin {
             }
         }
 
-        if (!schedulingEnabled) {
-            nextScheduledWipeAt = null;
-            nextScheduledWorlds = List.of();
+        if (!state.schedulingEnabled()) {
+            publishNextWipe(null, List.of());
+            countdownService.cancel();
             LOGGER.at(Level.INFO).log("[WorldWipe] Scheduling is disabled.");
             return;
         }
 
+        List<String> ruleWorlds = ruleScheduledWorlds(state, universe);
+        armedRuleWorlds = knownWorldKeyIndex(ruleWorlds);
+        schedules = withRuleSchedules(schedules, ruleWorlds);
         if (schedules.isEmpty()) {
-            nextScheduledWipeAt = null;
-            nextScheduledWorlds = List.of();
+            publishNextWipe(null, List.of());
+            countdownService.cancel();
             LOGGER.at(Level.INFO).log("[WorldWipe] No scheduled worlds configured.");
             return;
         }
@@ -793,10 +1167,7 @@ public class WorldWipePlugin extends JavaPlugin {
                 continue;
             }
             if (universe != null) {
-                String worldName = schedule.world();
-                boolean loaded = worldName != null && universe.getWorld(worldName) != null;
-                boolean loadable = worldName != null && universe.isWorldLoadable(worldName);
-                if (!loaded && !loadable && !shouldRegenerateWorld(worldName)) {
+                if (!isWorldSchedulable(universe, schedule.world())) {
                     continue;
                 }
             }
@@ -821,8 +1192,8 @@ public class WorldWipePlugin extends JavaPlugin {
         }
 
         if (earliestInstant == null) {
-            nextScheduledWipeAt = null;
-            nextScheduledWorlds = List.of();
+            publishNextWipe(null, List.of());
+            countdownService.cancel();
             LOGGER.at(Level.INFO).log("[WorldWipe] No valid schedules found.");
             return;
         }
@@ -830,8 +1201,7 @@ public class WorldWipePlugin extends JavaPlugin {
         Duration delay = Duration.between(Instant.now(), earliestInstant);
         long delayMillis = Math.max(0L, delay.toMillis());
 
-        nextScheduledWipeAt = earliestInstant;
-        nextScheduledWorlds = new ArrayList<>(earliestWorlds);
+        publishNextWipe(earliestInstant, List.copyOf(earliestWorlds));
 
         ZonedDateTime displayTime = ZonedDateTime.ofInstant(earliestInstant, ZoneId.systemDefault());
         LOGGER.at(Level.INFO).log(
@@ -840,6 +1210,11 @@ public class WorldWipePlugin extends JavaPlugin {
         );
 
         List<String> scheduledWorlds = new ArrayList<>(earliestWorlds);
+        if (state.countdownEnabled()) {
+            countdownService.arm(scheduler, earliestInstant, scheduledWorlds, state.countdownWarnings());
+        } else {
+            countdownService.cancel();
+        }
         scheduledWipeFuture = scheduler.schedule(() -> {
             try {
                 runScheduledWipeTick(scheduledWorlds);
@@ -849,6 +1224,83 @@ public class WorldWipePlugin extends JavaPlugin {
         }, delayMillis, TimeUnit.MILLISECONDS);
     }
 
+    private void rearmIfRuleWorldsChanged() {
+        try {
+            WipeState current = state;
+            if (!current.schedulingEnabled() || current.worldRules().isEmpty()) {
+                return;
+            }
+            Set<WorldKey> ruleWorlds = knownWorldKeyIndex(ruleScheduledWorlds(current, Universe.get()));
+            if (!ruleWorlds.equals(armedRuleWorlds)) {
+                scheduleNextAutomaticWipe();
+            }
+        } catch (Exception e) {
+            LOGGER.at(Level.WARNING).withCause(e).log("[WorldWipe] Failed to re-check world rule schedules.");
+        }
+    }
+
+    private List<String> ruleScheduledWorlds(WipeState current, Universe universe) {
+        if (current.worldRules().isEmpty() || universe == null) {
+            return List.of();
+        }
+        LinkedHashSet<String> loaded = new LinkedHashSet<>();
+        for (World world : universe.getWorlds().values()) {
+            if (world != null && world.getName() != null) {
+                loaded.add(world.getName());
+            }
+        }
+        List<FileTime> stamps = WorldEvacuationService.worldDirectoryStamps();
+        RuleWorldCache cached = ruleWorldCache;
+        if (cached != null && cached.state() == current && cached.loaded().equals(loaded)
+                && cached.stamps().equals(stamps)) {
+            return cached.worlds();
+        }
+        loaded.forEach(WorldKey::intern);
+        LinkedHashSet<String> candidates = new LinkedHashSet<>(loaded);
+        for (String worldName : WorldEvacuationService.listWorldDirectories()) {
+            if (universe.isWorldLoadable(worldName)) {
+                candidates.add(worldName);
+            }
+        }
+        Set<WorldKey> seen = new HashSet<>();
+        List<String> worlds = new ArrayList<>();
+        for (String worldName : candidates) {
+            if (worldKey(current.resetWorldKeys(), worldName) != null
+                    || resetWorldKey(current, worldName) == null
+                    || !seen.add(WorldKey.of(worldName))) {
+                continue;
+            }
+            worlds.add(worldName);
+        }
+        List<String> result = List.copyOf(worlds);
+        ruleWorldCache = new RuleWorldCache(current, Set.copyOf(loaded), stamps, result);
+        return result;
+    }
+
+    private List<WorldSchedule> withRuleSchedules(List<WorldSchedule> schedules, List<String> ruleWorlds) {
+        if (ruleWorlds.isEmpty()) {
+            return schedules;
+        }
+        WipeState current = state;
+        List<WorldSchedule> combined = new ArrayList<>(schedules);
+        for (String worldName : ruleWorlds) {
+            WorldRule rule = current.worldRules().match(worldName);
+            if (rule == null || rule.schedule() == null) {
+                continue;
+            }
+            ScheduleSpec spec = rule.schedule();
+            combined.add(new WorldSchedule(
+                    worldName,
+                    spec.mode(),
+                    spec.day(),
+                    spec.dayOfMonth(),
+                    spec.time(),
+                    spec.zone()
+            ));
+        }
+        return combined;
+    }
+
     public boolean requestManualWipe(@Nonnull String targetWorld) {
         Objects.requireNonNull(targetWorld, "targetWorld");
 
@@ -874,8 +1326,7 @@ public class WorldWipePlugin extends JavaPlugin {
         }
 
         try {
-            List<String> protectedList = getProtectedWorlds();
-            if (isProtectedWorld(worldName, protectedList)) {
+            if (isProtectedWorld(state, worldName)) {
                 return new WipeResult(false, "World '" + worldName + "' is protected.");
             }
 
@@ -899,10 +1350,8 @@ public class WorldWipePlugin extends JavaPlugin {
                 return new WipeResult(false, "World not loaded: " + worldName);
             }
 
-            no.sdev.worldwipe.world.WorldEvacuationService.evacuate(resettingWorld, destinationWorld);
-
             boolean shouldRegenerate = shouldRegenerateWorld(worldName);
-            scheduleWorldCleanup(worldName, shouldRegenerate, 0);
+            evacuateThenCleanup(resettingWorld, destinationWorld, shouldRegenerate);
 
             return new WipeResult(true, "Wipe started for '" + worldName + "'. Evacuating players...");
         } catch (Exception e) {
@@ -914,6 +1363,7 @@ public class WorldWipePlugin extends JavaPlugin {
 
     public boolean reloadConfig() {
         try {
+            persistence.flush(CONFIG_STATE);
             loadConfig();
             scheduleNextAutomaticWipe();
             return true;
@@ -925,12 +1375,10 @@ public class WorldWipePlugin extends JavaPlugin {
 
     public boolean updateSchedulingEnabled(boolean enabled) {
         try {
-            Path configPath = resolveConfigPath();
-            WorldWipeConfig config = WorldWipeConfig.loadOrCreate(configPath);
-            config.schedulingEnabled = enabled;
-            WorldWipeConfig.writeYaml(configPath, config);
-
-            loadConfig();
+            mutateConfig(config -> {
+                config.schedulingEnabled = enabled;
+                return true;
+            });
             scheduleNextAutomaticWipe();
             return true;
         } catch (Exception e) {
@@ -960,6 +1408,78 @@ public class WorldWipePlugin extends JavaPlugin {
             return false;
         }
 
+        try {
+            mutateConfig(config -> {
+                putWorldSchedule(config, worldName, mode, day, dayOfMonth, time, zone);
+                return true;
+            });
+            scheduleNextAutomaticWipe();
+            return true;
+        } catch (Exception e) {
+            LOGGER.at(Level.WARNING).withCause(e).log("[WorldWipe] Failed to update schedule for world '%s'.", worldName);
+            return false;
+        }
+    }
+
+    public boolean applyScheduleChanges(List<ScheduleChange> changes) {
+        if (changes == null || changes.isEmpty()) {
+            return false;
+        }
+        for (ScheduleChange change : changes) {
+            if (change == null || change.world() == null || change.world().isBlank()
+                    || (!change.isRemoval() && change.time() == null)) {
+                return false;
+            }
+        }
+
+        try {
+            boolean changed = mutateConfig(config -> {
+                boolean updated = false;
+                for (ScheduleChange change : changes) {
+                    if (!change.isRemoval()) {
+                        putWorldSchedule(
+                                config,
+                                change.world().trim(),
+                                change.mode(),
+                                change.day(),
+                                change.dayOfMonth(),
+                                change.time(),
+                                change.zone()
+                        );
+                        updated = true;
+                    } else if (config.worlds != null) {
+                        WorldKey key = WorldKey.of(change.world());
+                        updated |= config.worlds.keySet().removeIf(existing -> {
+                            if (existing == null || !key.equals(WorldKey.of(existing))) {
+                                return false;
+                            }
+                            worldConfigFiles.markDirty(existing);
+                            return true;
+                        });
+                    }
+                }
+                return updated;
+            });
+            if (changed) {
+                scheduleNextAutomaticWipe();
+            }
+            return changed;
+        } catch (Exception e) {
+            LOGGER.at(Level.WARNING).withCause(e)
+                    .log("[WorldWipe] Failed to apply %s schedule changes.", changes.size());
+            return false;
+        }
+    }
+
+    private void putWorldSchedule(
+            WorldWipeConfig config,
+            String worldName,
+            ScheduleMode mode,
+            DayOfWeek day,
+            Integer dayOfMonth,
+            LocalTime time,
+            String zone
+    ) {
         String resolvedZone = (zone == null || zone.isBlank()) ? "system" : zone.trim();
         int resolvedDayOfMonth = dayOfMonth != null ? dayOfMonth : DEFAULT_SCHEDULE_DAY_OF_MONTH;
         if (resolvedDayOfMonth < 1 || resolvedDayOfMonth > 31) {
@@ -967,37 +1487,26 @@ public class WorldWipePlugin extends JavaPlugin {
         }
         DayOfWeek resolvedDay = day != null ? day : DEFAULT_SCHEDULE_DAY;
 
-        try {
-            Path configPath = resolveConfigPath();
-            WorldWipeConfig config = WorldWipeConfig.loadOrCreate(configPath);
-
-            if (config.worlds == null) {
-                config.worlds = new HashMap<>();
-            }
-
-            WorldWipeConfig.WorldEntry entry = config.worlds.getOrDefault(worldName, new WorldWipeConfig.WorldEntry());
-            if (entry.schedule == null) {
-                entry.schedule = new WorldWipeConfig.Schedule();
-            }
-            entry.schedule.mode = mode.name();
-            entry.schedule.day = resolvedDay.name();
-            entry.schedule.dayOfMonth = resolvedDayOfMonth;
-            entry.schedule.time = time.toString();
-            entry.schedule.zone = resolvedZone;
-            if (entry.lastWipe == null || entry.lastWipe.isBlank()) {
-                entry.lastWipe = Instant.now().toString();
-            }
-
-            config.worlds.put(worldName, entry);
-            WorldWipeConfig.writeYaml(configPath, config);
+        if (config.worlds == null) {
+            config.worlds = new HashMap<>();
+        }
 
-            loadConfig();
-            scheduleNextAutomaticWipe();
-            return true;
-        } catch (Exception e) {
-            LOGGER.at(Level.WARNING).withCause(e).log("[WorldWipe] Failed to update schedule for world '%s'.", worldName);
-            return false;
+        String configName = configWorldName(config.worlds, worldName);
+        WorldWipeConfig.WorldEntry entry = config.worlds.getOrDefault(configName, new WorldWipeConfig.WorldEntry());
+        if (entry.schedule == null) {
+            entry.schedule = new WorldWipeConfig.Schedule();
         }
+        entry.schedule.mode = mode.name();
+        entry.schedule.day = resolvedDay.name();
+        entry.schedule.dayOfMonth = resolvedDayOfMonth;
+        entry.schedule.time = time.toString();
+        entry.schedule.zone = resolvedZone;
+        if (entry.lastWipe == null || entry.lastWipe.isBlank()) {
+            entry.lastWipe = Instant.now().toString();
+        }
+
+        config.worlds.put(configName, entry);
+        worldConfigFiles.markDirty(configName);
     }
 
     public boolean updateWorldRegenerateOnWipe(String worldName, boolean regenerate) {
@@ -1006,19 +1515,18 @@ public class WorldWipePlugin extends JavaPlugin {
         }
 
         try {
-            Path configPath = resolveConfigPath();
-            WorldWipeConfig config = WorldWipeConfig.loadOrCreate(configPath);
-
-            if (config.worlds == null) {
-                config.worlds = new HashMap<>();
-            }
-
-            WorldWipeConfig.WorldEntry entry = config.worlds.getOrDefault(worldName, new WorldWipeConfig.WorldEntry());
-            entry.regenerateOnWipe = regenerate;
-            config.worlds.put(worldName, entry);
-            WorldWipeConfig.writeYaml(configPath, config);
+            mutateConfig(config -> {
+                if (config.worlds == null) {
+                    config.worlds = new HashMap<>();
+                }
 
-            loadConfig();
+                String configName = configWorldName(config.worlds, worldName);
+                WorldWipeConfig.WorldEntry entry = config.worlds.getOrDefault(configName, new WorldWipeConfig.WorldEntry());
+                entry.regenerateOnWipe = regenerate;
+                config.worlds.put(configName, entry);
+                worldConfigFiles.markDirty(configName);
+                return true;
+            });
             scheduleNextAutomaticWipe();
             return true;
         } catch (Exception e) {
@@ -1033,50 +1541,30 @@ public class WorldWipePlugin extends JavaPlugin {
             return false;
         }
 
-        List<String> normalized = new ArrayList<>();
-        for (String name : worldNames) {
-            if (name == null) {
-                continue;
-            }
-            String trimmed = name.trim();
-            if (!trimmed.isBlank()) {
-                normalized.add(trimmed.toLowerCase(Locale.ROOT));
-            }
-        }
+        Set<WorldKey> normalized = worldKeyIndex(worldNames);
 
         if (normalized.isEmpty()) {
             return false;
         }
 
         try {
-            Path configPath = resolveConfigPath();
-            WorldWipeConfig config = WorldWipeConfig.loadOrCreate(configPath);
-
-            if (config.worlds == null || config.worlds.isEmpty()) {
-                return false;
-            }
-
-            boolean changed = false;
-            var iterator = config.worlds.entrySet().iterator();
-            while (iterator.hasNext()) {
-                var entry = iterator.next();
-                String key = entry.getKey();
-                if (key == null) {
-                    continue;
+            boolean changed = mutateConfig(config -> {
+                if (config.worlds == null || config.worlds.isEmpty()) {
+                    return false;
                 }
-                String keyNormalized = key.trim().toLowerCase(Locale.ROOT);
-                if (normalized.contains(keyNormalized)) {
-                    iterator.remove();
-                    changed = true;
-                }
-            }
+                return config.worlds.keySet().removeIf(key -> {
+                    if (key == null || !normalized.contains(WorldKey.of(key))) {
+                        return false;
+                    }
+                    worldConfigFiles.markDirty(key);
+                    return true;
+                });
+            });
 
             if (!changed) {
                 return false;
             }
 
-            WorldWipeConfig.writeYaml(configPath, config);
-            loadConfig();
             if (reschedule) {
                 scheduleNextAutomaticWipe();
             }
@@ -1102,23 +1590,22 @@ public class WorldWipePlugin extends JavaPlugin {
 
         String trimmed = worldName.trim();
         try {
-            Path configPath = resolveConfigPath();
-            WorldWipeConfig config = WorldWipeConfig.loadOrCreate(configPath);
-            List<String> worlds = config.protectedWorlds != null
-                    ? new ArrayList<>(config.protectedWorlds)
-                    : new ArrayList<>();
-
-            boolean exists = worlds.stream().anyMatch(w -> w.equalsIgnoreCase(trimmed));
-            if (!exists) {
+            boolean added = mutateConfig(config -> {
+                List<String> worlds = config.protectedWorlds != null
+                        ? new ArrayList<>(config.protectedWorlds)
+                        : new ArrayList<>();
+
+                if (worlds.stream().anyMatch(w -> w.equalsIgnoreCase(trimmed))) {
+                    return false;
+                }
                 worlds.add(trimmed);
+                config.protectedWorlds = worlds;
+                return true;
+            });
+            if (added) {
+                scheduleNextAutomaticWipe();
             }
-
-            config.protectedWorlds = worlds;
-            WorldWipeConfig.writeYaml(configPath, config);
-
-            loadConfig();
-            scheduleNextAutomaticWipe();
-            return !exists;
+            return added;
         } catch (Exception e) {
             LOGGER.at(Level.WARNING).withCause(e)
                     .log("[WorldWipe] Failed to add protected world '%s'.", trimmed);
@@ -1133,26 +1620,26 @@ public class WorldWipePlugin extends JavaPlugin {
 
         String trimmed = worldName.trim();
         try {
-            Path configPath = resolveConfigPath();
-            WorldWipeConfig config = WorldWipeConfig.loadOrCreate(configPath);
-            List<String> worlds = config.protectedWorlds != null
-                    ? new ArrayList<>(config.protectedWorlds)
-                    : new ArrayList<>();
+            boolean removed = mutateConfig(config -> {
+                List<String> worlds = config.protectedWorlds != null
+                        ? new ArrayList<>(config.protectedWorlds)
+                        : new ArrayList<>();
+
+                if (!worlds.removeIf(w -> w.equalsIgnoreCase(trimmed))) {
+                    return false;
+                }
+
+                if (worlds.isEmpty()) {
+                    worlds.add(DEFAULT_PROTECTED_WORLD);
+                }
 
-            boolean removed = worlds.removeIf(w -> w.equalsIgnoreCase(trimmed));
+                config.protectedWorlds = worlds;
+                return true;
+            });
             if (!removed) {
                 return false;
             }
 
-            if (worlds.isEmpty()) {
-                worlds = new ArrayList<>();
-                worlds.add(DEFAULT_PROTECTED_WORLD);
-            }
-
-            config.protectedWorlds = worlds;
-            WorldWipeConfig.writeYaml(configPath, config);
-
-            loadConfig();
             scheduleNextAutomaticWipe();
             return true;
         } catch (Exception e) {
@@ -1165,36 +1652,21 @@ public class WorldWipePlugin extends JavaPlugin {
     private void loadConfig() {
         Path configPath = resolveConfigPath();
         migrateLegacyConfig(configPath);
-        WorldWipeConfig config = WorldWipeConfig.loadOrCreate(configPath);
-
-        WorldWipeConfig.EffectiveConfig effective = config.resolve();
-
-        protectedWorlds = normalizeProtectedWorlds(effective.protectedWorlds());
-        schedulingEnabled = effective.schedulingEnabled();
-        regenerateOnWipe = effective.regenerateOnWipe();
-        offlineTrackingEnabled = effective.offlineTrackingEnabled();
-        offlineTrackingSaveFile = effective.offlineTrackingSaveFile();
-        offlineTrackingMaxDays = Math.max(0, effective.offlineTrackingMaxDays());
-        offlineTrackingMode = resolveOfflineTrackingMode(effective.offlineTrackingMode());
-        worldSchedules = normalizeWorldSchedules(effective.worlds(), protectedWorlds);
-        worldRegenerateOnWipe = resolveWorldRegenerateMap(effective.worlds());
-        worldLastWipe = resolveWorldLastWipeMap(effective.worlds());
-
-        if (!offlineTrackingEnabled) {
-            playerLastSeen.clear();
-            offlineWorldLastWipe.clear();
-        } else if (offlineTrackingSaveFile) {
-            loadPlayerLastSeen();
-            loadOfflineWorldLastWipe();
-        } else {
-            prunePlayerLastSeen();
-            pruneOfflineWorldLastWipe();
-        }
-        if (offlineTrackingEnabled) {
-            mergeWorldLastWipeIntoOffline();
+        synchronized (configLock) {
+            WorldWipeConfig loaded = WorldWipeConfig.loadOrCreate(configPath);
+            try {
+                lastWrittenConfigYaml = Files.readString(configPath);
+            } catch (IOException e) {
+                lastWrittenConfigYaml = null;
+            }
+            if (adoptWorldConfigFiles(loaded)) {
+                persistence.markDirty(CONFIG_STATE);
+            }
+            configModel = loaded;
+            applyConfig(configModel);
         }
 
-        if (worldSchedules.isEmpty()) {
+        if (state.worldSchedules().isEmpty()) {
             LOGGER.at(Level.INFO).log("[WorldWipe] No scheduled worlds configured.");
         }
 
@@ -1204,10 +1676,305 @@ public class WorldWipePlugin extends JavaPlugin {
         );
     }
 
-    private HashMap<String, Boolean> resolveWorldRegenerateMap(
+    private boolean mutateConfig(ConfigMutation mutation) {
+        synchronized (configLock) {
+            if (!mutation.apply(configModel)) {
+                return false;
+            }
+            persistence.markDirty(CONFIG_STATE);
+            applyConfig(configModel);
+            return true;
+        }
+    }
+
+    private void applyConfig(WorldWipeConfig config) {
+        WorldWipeConfig.EffectiveConfig effective = config.resolve();
+
+        List<String> protectedWorlds = List.copyOf(normalizeProtectedWorlds(effective.protectedWorlds()));
+        List<WorldSchedule> worldSchedules = List.copyOf(normalizeWorldSchedules(effective.worlds(), protectedWorlds));
+        List<String> resetWorlds = resolveResetWorlds(worldSchedules);
+        WipeState previous = state;
+        WipeState next = new WipeState(
+                protectedWorlds,
+                worldSchedules,
+                resetWorlds,
+                knownWorldKeyIndex(protectedWorlds),
+                knownWorldKeyIndex(resetWorlds),
+                resolvePrimaryProtectedWorld(protectedWorlds),
+                Map.copyOf(resolveWorldRegenerateMap(effective.worlds())),
+                Map.copyOf(resolveWorldLastWipeMap(effective.worlds())),
+                resolveWorldRules(effective.worldRules()),
+                effective.schedulingEnabled(),
+                effective.regenerateOnWipe(),
+                effective.offlineTrackingEnabled(),
+                effective.offlineTrackingSaveFile(),
+                Math.max(0, effective.offlineTrackingMaxDays()),
+                resolveOfflineTrackingMode(effective.offlineTrackingMode()),
+                effective.countdownEnabled(),
+                List.copyOf(resolveCountdownWarnings(effective.countdownWarnings())),
+                effective.returnAfterWipe(),
+                Duration.ofSeconds(Math.max(0, effective.returnWarmupSeconds())),
+                Math.max(1, effective.returnBatchSize()),
+                Duration.ofSeconds(Math.max(0, effective.returnBatchIntervalSeconds())),
+                Duration.ofSeconds(Math.max(1, effective.persistenceFlushSeconds())),
+                Math.max(1, Math.min(50, effective.dashboardPageSize()))
+        );
+        playerSeenEpochs.setBacking(resolveOfflineTrackingStorage(effective.offlineTrackingStorage()));
+        playerSeenEpochs.setRetentionDays(next.offlineTrackingMaxDays());
+        state = next;
+        stateVersion.incrementAndGet();
+        if (!next.returnAfterWipe()) {
+            returnQueue.clear();
+        }
+
+        OfflineStateKey offlineState = new OfflineStateKey(
+                next.offlineTrackingEnabled(),
+                next.offlineTrackingSaveFile(),
+                playerSeenEpochs.backing()
+        );
+        boolean reloadOfflineState = !offlineState.equals(loadedOfflineState);
+        loadedOfflineState = offlineState;
+        if (!next.persistenceFlushInterval().equals(previous.persistenceFlushInterval()) && scheduler != null) {
+            persistence.start(scheduler, next.persistenceFlushInterval());
+        }
+
+        if (next.offlineTrackingEnabled() && next.offlineTrackingSaveFile() && reloadOfflineState) {
+            loadOfflineStateAsync();
+        } else {
+            synchronized (offlineStateLock) {
+                if (!next.offlineTrackingEnabled()) {
+                    playerSeenEpochs.clear();
+                    offlineWorldLastWipe.clear();
+                } else {
+                    pruneOfflineWorldLastWipe();
+                    mergeWorldLastWipeIntoOffline();
+                    playerSeenEpochs.prune(wipeEpochs.minimum());
+                }
+            }
+        }
+    }
+
+    private void loadOfflineStateAsync() {
+        CountDownLatch ready = new CountDownLatch(1);
+        offlineStateReady = ready;
+        Thread loader = new Thread(() -> {
+            long startedAt = System.nanoTime();
+            try {
+                synchronized (offlineStateLock) {
+                    persistence.flush(WORLD_LAST_WIPE_STATE);
+                    persistence.flush(PLAYER_LAST_SEEN_STATE);
+                    loadOfflineWorldLastWipe();
+                    mergeWorldLastWipeIntoOffline();
+                    loadPlayerLastSeen();
+                }
+                LOGGER.at(Level.INFO).log(
+                        "[WorldWipe] Offline tracking state loaded in %s ms.",
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)
+                );
+            } catch (Exception e) {
+                LOGGER.at(Level.WARNING).withCause(e).log("[WorldWipe] Failed to load offline tracking state.");
+            } finally {
+                ready.countDown();
+            }
+        }, "WorldWipe-OfflineLoader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    private boolean awaitOfflineState() {
+        CountDownLatch ready = offlineStateReady;
+        if (ready.getCount() == 0L) {
+            return true;
+        }
+        try {
+            if (ready.await(OFFLINE_STATE_WAIT_MILLIS, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        LOGGER.at(Level.WARNING).log("[WorldWipe] Offline tracking state is still loading; using partial data.");
+        return false;
+    }
+
+    private boolean adoptWorldConfigFiles(WorldWipeConfig config) {
+        if (!config.usesWorldFiles() && !worldConfigFiles.exists()) {
+            return false;
+        }
+        Map<String, WorldWipeConfig.WorldEntry> fileWorlds = worldConfigFiles.load();
+        if (config.usesWorldFiles()) {
+            boolean inlineWorlds = !config.worlds.isEmpty();
+            fileWorlds.putAll(config.worlds);
+            config.worlds = fileWorlds;
+            if (inlineWorlds) {
+                worldConfigFiles.markAllDirty();
+            }
+            LOGGER.at(Level.INFO).log(
+                    "[WorldWipe] Loaded %s world configs from %s.",
+                    fileWorlds.size(),
+                    worldConfigFiles.directory()
+            );
+            return inlineWorlds;
+        }
+        fileWorlds.forEach(config.worlds::putIfAbsent);
+        worldConfigFiles.markAllDirty();
+        LOGGER.at(Level.INFO).log(
+                "[WorldWipe] Moving %s world configs from %s back into config.yml.",
+                fileWorlds.size(),
+                worldConfigFiles.directory()
+        );
+        return true;
+    }
+
+    private void writeConfigModel() throws IOException {
+        String yaml;
+        Map<Path, WorldConfigFiles.WorldFile> worldFiles;
+        synchronized (configLock) {
+            yaml = WorldWipeConfig.toYaml(configModel);
+            worldFiles = worldConfigFiles.render(configModel.usesWorldFiles() ? configModel.worlds : Map.of());
+        }
+        if (!yaml.equals(lastWrittenConfigYaml)) {
+            lastWrittenConfigYaml = yaml;
+            try {
+                AtomicFiles.writeString(resolveConfigPath(), yaml);
+            } catch (IOException e) {
+                lastWrittenConfigYaml = null;
+                throw e;
+            }
+        }
+        worldConfigFiles.write(worldFiles);
+    }
+
+    private void startWorldConfigWatcher() {
+        try {
+            worldConfigWatcher.start();
+        } catch (IOException e) {
+            LOGGER.at(Level.WARNING).withCause(e).log("[WorldWipe] Failed to watch world config files for changes.");
+        }
+    }
+
+    private void applyWorldConfigFileChanges() {
+        WorldWipeConfig.Diff diff;
+        synchronized (configLock) {
+            if (!configModel.usesWorldFiles()) {
+                return;
+            }
+            Map<String, WorldWipeConfig.WorldEntry> changed = worldConfigFiles.reload();
+            if (changed.isEmpty()) {
+                return;
+            }
+            Map<String, WorldWipeConfig.WorldEntry> before = new HashMap<>();
+            Map<String, WorldWipeConfig.WorldEntry> after = new HashMap<>();
+            for (Map.Entry<String, WorldWipeConfig.WorldEntry> entry : changed.entrySet()) {
+                String worldName = configWorldName(configModel.worlds, entry.getKey());
+                WorldWipeConfig.WorldEntry previous = configModel.worlds.get(worldName);
+                if (previous != null) {
+                    before.put(worldName, previous);
+                }
+                if (entry.getValue() != null) {
+                    after.put(worldName, entry.getValue());
+                    configModel.worlds.put(worldName, entry.getValue());
+                } else {
+                    configModel.worlds.remove(worldName);
+                }
+            }
+            diff = WorldWipeConfig.diffWorlds(before, after);
+            if (diff.isEmpty()) {
+                return;
+            }
+            applyConfig(configModel);
+        }
+        LOGGER.at(Level.INFO).log(
+                "[WorldWipe] Applied edits from %s (worlds: %s).",
+                worldConfigFiles.directory(),
+                String.join(", ", diff.worlds())
+        );
+        if (!diff.scheduledWorlds().isEmpty()) {
+            scheduleNextAutomaticWipe();
+        }
+    }
+
+    private static String configWorldName(Map<String, WorldWipeConfig.WorldEntry> worlds, String worldName) {
+        if (worlds == null || worlds.containsKey(worldName)) {
+            return worldName;
+        }
+        WorldKey key = WorldKey.of(worldName);
+        for (String existing : worlds.keySet()) {
+            if (key != null && key.equals(WorldKey.of(existing))) {
+                return existing;
+            }
+        }
+        return worldName;
+    }
+
+    private void applyConfigFileChange() {
+        Path configPath = resolveConfigPath();
+        String raw;
+        try {
+            raw = Files.notExists(configPath) ? null : Files.readString(configPath);
+        } catch (IOException e) {
+            LOGGER.at(Level.WARNING).withCause(e).log("[WorldWipe] Failed to read %s.", configPath);
+            return;
+        }
+        if (raw == null || raw.isBlank() || raw.equals(lastWrittenConfigYaml)) {
+            return;
+        }
+        WorldWipeConfig updated;
+        try {
+            updated = WorldWipeConfig.fromYaml(raw);
+        } catch (RuntimeException e) {
+            updated = null;
+        }
+        if (updated == null) {
+            LOGGER.at(Level.WARNING).log("[WorldWipe] Ignoring unreadable %s; keeping the current config.", configPath);
+            return;
+        }
+
+        WorldWipeConfig.Diff diff;
+        synchronized (configLock) {
+            WorldWipeConfig base = lastWrittenConfigYaml != null
+                    ? WorldWipeConfig.fromYaml(lastWrittenConfigYaml)
+                    : null;
+            if (base == null) {
+                base = WorldWipeConfig.fromYaml(WorldWipeConfig.toYaml(configModel));
+            }
+            boolean layoutChanged = updated.usesWorldFiles() != configModel.usesWorldFiles();
+            boolean inlineWorlds = updated.usesWorldFiles() && !updated.worlds.isEmpty();
+            diff = WorldWipeConfig.mergeEdits(configModel, base, updated);
+            lastWrittenConfigYaml = raw;
+            if (diff.isEmpty() && !inlineWorlds) {
+                return;
+            }
+            if (inlineWorlds && !layoutChanged) {
+                updated.worlds.keySet().forEach(worldConfigFiles::markDirty);
+            }
+            if (layoutChanged) {
+                worldConfigFiles.markAllDirty();
+            }
+            if (layoutChanged || inlineWorlds) {
+                persistence.markDirty(CONFIG_STATE);
+            }
+            applyConfig(configModel);
+            if (configModel.usesWorldFiles()) {
+                startWorldConfigWatcher();
+            }
+        }
+        LOGGER.at(Level.INFO).log(
+                "[WorldWipe] Applied edits from %s (settings: %s, worlds: %s).",
+                configPath,
+                diff.settings().isEmpty() ? "-" : String.join(", ", diff.settings()),
+                diff.worlds().isEmpty() ? "-" : String.join(", ", diff.worlds())
+        );
+        if (!diff.scheduledWorlds().isEmpty()
+                || diff.settings().stream().anyMatch(SCHEDULE_SETTINGS::contains)) {
+            scheduleNextAutomaticWipe();
+        }
+    }
+
+    private HashMap<WorldKey, Boolean> resolveWorldRegenerateMap(
             java.util.Map<String, WorldWipeConfig.WorldEntry> worlds
     ) {
-        HashMap<String, Boolean> map = new HashMap<>();
+        HashMap<WorldKey, Boolean> map = new HashMap<>();
         if (worlds == null || worlds.isEmpty()) {
             return map;
         }
@@ -1220,15 +1987,15 @@ public class WorldWipePlugin extends JavaPlugin {
             if (worldEntry == null || worldEntry.regenerateOnWipe == null) {
                 continue;
             }
-            map.put(worldName.trim().toLowerCase(Locale.ROOT), worldEntry.regenerateOnWipe);
+            map.put(WorldKey.intern(worldName), worldEntry.regenerateOnWipe);
         }
         return map;
     }
 
-    private HashMap<String, Instant> resolveWorldLastWipeMap(
+    private HashMap<WorldKey, Instant> resolveWorldLastWipeMap(
             java.util.Map<String, WorldWipeConfig.WorldEntry> worlds
     ) {
-        HashMap<String, Instant> map = new HashMap<>();
+        HashMap<WorldKey, Instant> map = new HashMap<>();
         if (worlds == null || worlds.isEmpty()) {
             return map;
         }
@@ -1243,25 +2010,30 @@ public class WorldWipePlugin extends JavaPlugin {
             }
             Instant parsed = parseInstant(worldEntry.lastWipe);
             if (parsed != null) {
-                map.put(worldName.trim().toLowerCase(Locale.ROOT), parsed);
+                map.put(WorldKey.intern(worldName), parsed);
             }
         }
         return map;
     }
 
     private boolean shouldRegenerateWorld(String worldName) {
+        WipeState current = state;
         if (worldName == null || worldName.isBlank()) {
-            return regenerateOnWipe;
+            return current.regenerateOnWipe();
+        }
+        Boolean override = current.worldRegenerateOnWipe().get(WorldKey.of(worldName));
+        if (override == null && !current.worldRules().isEmpty() && worldKey(current.resetWorldKeys(), worldName) == null) {
+            WorldRule rule = current.worldRules().match(worldName);
+            override = rule != null ? rule.regenerateOnWipe() : null;
         }
-        Boolean override = worldRegenerateOnWipe.get(worldName.trim().toLowerCase(Locale.ROOT));
-        return override != null ? override : regenerateOnWipe;
+        return override != null ? override : current.regenerateOnWipe();
     }
 
     private Instant getLastWipeInstant(String worldName) {
         if (worldName == null || worldName.isBlank()) {
             return null;
         }
-        return worldLastWipe.get(worldName.trim().toLowerCase(Locale.ROOT));
+        return state.worldLastWipe().get(WorldKey.of(worldName));
     }
 
     public boolean updateWorldLastWipe(String worldName, Instant instant) {
@@ -1270,22 +2042,21 @@ public class WorldWipePlugin extends JavaPlugin {
         }
 
         try {
-            Path configPath = resolveConfigPath();
-            WorldWipeConfig config = WorldWipeConfig.loadOrCreate(configPath);
-            if (config.worlds == null || !config.worlds.containsKey(worldName)) {
-                return false;
-            }
-
-            WorldWipeConfig.WorldEntry entry = config.worlds.get(worldName);
-            if (entry == null) {
-                return false;
-            }
-            entry.lastWipe = instant.toString();
-            config.worlds.put(worldName, entry);
-            WorldWipeConfig.writeYaml(configPath, config);
-
-            loadConfig();
-            return true;
+            return mutateConfig(config -> {
+                String configName = configWorldName(config.worlds, worldName);
+                WorldWipeConfig.WorldEntry entry = config.worlds != null ? config.worlds.get(configName) : null;
+                if (entry == null) {
+                    if (config.worlds == null || resetWorldKey(state, worldName) == null) {
+                        return false;
+                    }
+                    entry = new WorldWipeConfig.WorldEntry();
+                    entry.schedule = null;
+                    config.worlds.put(configName, entry);
+                }
+                entry.lastWipe = instant.toString();
+                worldConfigFiles.markDirty(configName);
+                return true;
+            });
         } catch (Exception e) {
             LOGGER.at(Level.WARNING).withCause(e)
                     .log("[WorldWipe] Failed to update lastWipe for world '%s'.", worldName);
@@ -1310,6 +2081,33 @@ public class WorldWipePlugin extends JavaPlugin {
         }
     }
 
+    private void evacuateThenCleanup(World resettingWorld, World destinationWorld, boolean regenerate) {
+        String worldName = resettingWorld.getName();
+        WorldEvacuationService.evacuate(resettingWorld, destinationWorld)
+                .whenComplete((result, error) -> {
+                    if (error != null) {
+                        LOGGER.at(Level.WARNING).withCause(error)
+                                .log("[WorldWipe] Evacuation tracking failed for world '%s'.", worldName);
+                    } else if (result.playersAffected() > 0) {
+                        LOGGER.at(Level.INFO).log(
+                                "[WorldWipe] Evacuated %s/%s player(s) from '%s', %s disconnected (latency: %s).",
+                                result.playersConfirmed(),
+                                result.playersAffected(),
+                                worldName,
+                                result.playersDisconnected(),
+                                result.latency().summary()
+                        );
+                        if (!result.success()) {
+                            LOGGER.at(Level.WARNING).log("[WorldWipe] %s", result.reason());
+                        }
+                        if (state.returnAfterWipe() && regenerate) {
+                            returnQueue.record(worldName, destinationWorld.getName(), result.evacuatedPlayers());
+                        }
+                    }
+                    scheduleWorldCleanup(worldName, regenerate, 0);
+                });
+    }
+
     private void scheduleWorldCleanup(String worldName, boolean regenerate, int attempt) {
         startSchedulerIfNeeded();
 
@@ -1320,7 +2118,7 @@ public class WorldWipePlugin extends JavaPlugin {
         }
 
         final int maxAttempts = 15;
-        final long delayMs = 1000L;
+        final long delayMs = attempt == 0 ? 0L : 1000L;
 
         scheduler.schedule(() -> {
             try {
@@ -1340,16 +2138,12 @@ public class WorldWipePlugin extends JavaPlugin {
 
                     Instant wipeInstant = Instant.now();
                     if (regenerate) {
-                        no.sdev.worldwipe.world.WorldRegenerationService.regenerateWorld(worldName)
-                                .exceptionally(error -> {
-                                    LOGGER.at(Level.WARNING).withCause(error)
-                                            .log("[WorldWipe] Failed to regenerate world '%s'.", worldName);
-                                    return null;
-                                });
+                        regenerateThenReturn(worldName);
                         updateWorldLastWipe(worldName, wipeInstant);
                         recordWorldWipe(worldName, wipeInstant);
                     } else {
                         recordWorldWipe(worldName, wipeInstant);
+                        returnQueue.discard(worldName);
                         removeWorldSchedule(worldName);
                     }
 
@@ -1384,16 +2178,12 @@ public class WorldWipePlugin extends JavaPlugin {
 
                 Instant wipeInstant = Instant.now();
                 if (regenerate) {
-                    no.sdev.worldwipe.world.WorldRegenerationService.regenerateWorld(worldName)
-                            .exceptionally(error -> {
-                                LOGGER.at(Level.WARNING).withCause(error)
-                                        .log("[WorldWipe] Failed to regenerate world '%s'.", worldName);
-                                return null;
-                            });
+                    regenerateThenReturn(worldName);
                     updateWorldLastWipe(worldName, wipeInstant);
                     recordWorldWipe(worldName, wipeInstant);
                 } else {
                     recordWorldWipe(worldName, wipeInstant);
+                    returnQueue.discard(worldName);
                     removeWorldSchedule(worldName);
                 }
             } catch (Exception e) {
@@ -1404,6 +2194,54 @@ public class WorldWipePlugin extends JavaPlugin {
         }, delayMs, TimeUnit.MILLISECONDS);
     }
 
+    private void regenerateThenReturn(String worldName) {
+        no.sdev.worldwipe.world.WorldRegenerationService.regenerateWorld(worldName)
+                .whenComplete((regeneratedWorld, error) -> {
+                    if (error != null) {
+                        LOGGER.at(Level.WARNING).withCause(error)
+                                .log("[WorldWipe] Failed to regenerate world '%s'.", worldName);
+                        returnQueue.discard(worldName);
+                        return;
+                    }
+                    releaseReturnQueue(regeneratedWorld);
+                });
+    }
+
+    private void releaseReturnQueue(World regeneratedWorld) {
+        if (regeneratedWorld == null) {
+            return;
+        }
+        WipeState current = state;
+        if (!current.returnAfterWipe()) {
+            returnQueue.discard(regeneratedWorld.getName());
+            return;
+        }
+        startSchedulerIfNeeded();
+        if (scheduler == null) {
+            returnQueue.discard(regeneratedWorld.getName());
+            return;
+        }
+        String worldName = regeneratedWorld.getName();
+        CompletableFuture<Void> release;
+        try {
+            release = returnQueue.release(
+                    scheduler,
+                    regeneratedWorld,
+                    current.returnWarmup(),
+                    current.returnBatchSize(),
+                    current.returnBatchInterval()
+            );
+        } catch (RuntimeException e) {
+            release = CompletableFuture.failedFuture(e);
+        }
+        release.whenComplete((ignored, error) -> {
+            if (error != null) {
+                LOGGER.at(Level.WARNING).withCause(error)
+                        .log("[WorldWipe] Failed to return players to world '%s'.", worldName);
+            }
+        });
+    }
+
     private List<String> normalizeProtectedWorlds(List<String> worldNames) {
         LinkedHashSet<String> unique = new LinkedHashSet<>();
         if (worldNames != null) {
@@ -1430,9 +2268,10 @@ public class WorldWipePlugin extends JavaPlugin {
             List<String> protectedWorldNames
     ) {
         java.util.Map<String, WorldWipeConfig.WorldEntry> baseWorlds =
-                worlds != null ? worlds : new java.util.LinkedHashMap<>();
+                worlds != null ? worlds : new LinkedHashMap<>();
 
-        LinkedHashSet<String> seen = new LinkedHashSet<>();
+        Set<WorldKey> protectedKeys = knownWorldKeyIndex(protectedWorldNames != null ? protectedWorldNames : List.of());
+        Set<WorldKey> seen = new HashSet<>();
         List<WorldSchedule> resolved = new ArrayList<>();
 
         for (var entry : baseWorlds.entrySet()) {
@@ -1444,14 +2283,15 @@ public class WorldWipePlugin extends JavaPlugin {
             if (trimmed.isBlank()) {
                 continue;
             }
-            if (isProtectedWorld(trimmed, protectedWorldNames)) {
-                continue;
-            }
-            if (!seen.add(trimmed)) {
+            WorldKey key = WorldKey.of(trimmed);
+            if (protectedKeys.contains(key) || !seen.add(key)) {
                 continue;
             }
 
             WorldWipeConfig.WorldEntry worldEntry = entry.getValue();
+            if (worldEntry != null && worldEntry.schedule == null) {
+                continue;
+            }
             ScheduleSpec spec = resolveScheduleSpec(
                     worldEntry != null ? worldEntry.schedule : null,
                     trimmed
@@ -1470,18 +2310,6 @@ public class WorldWipePlugin extends JavaPlugin {
         return resolved;
     }
 
-    private boolean isProtectedWorld(String worldName, List<String> protectedWorldNames) {
-        if (worldName == null || protectedWorldNames == null || protectedWorldNames.isEmpty()) {
-            return false;
-        }
-        for (String protectedWorld : protectedWorldNames) {
-            if (protectedWorld != null && worldName.equalsIgnoreCase(protectedWorld)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
     private ScheduleSpec resolveScheduleSpec(WorldWipeConfig.Schedule schedule, String worldName) {
         ScheduleMode resolvedMode = ScheduleMode.WEEKLY;
         DayOfWeek resolvedDay = DEFAULT_SCHEDULE_DAY;
@@ -1558,6 +2386,25 @@ public class WorldWipePlugin extends JavaPlugin {
         return new ScheduleSpec(resolvedMode, resolvedDay, resolvedDayOfMonth, resolvedTime, resolvedZone);
     }
 
+    private WorldRuleMatcher<WorldRule> resolveWorldRules(List<WorldWipeConfig.WorldRule> rules) {
+        Map<String, WorldRule> compiled = new LinkedHashMap<>();
+        for (WorldWipeConfig.WorldRule rule : rules) {
+            if (rule == null || rule.match == null || rule.match.isBlank() || compiled.containsKey(rule.match.trim())) {
+                continue;
+            }
+            compiled.put(rule.match.trim(), new WorldRule(
+                    rule.protectedWorld != null && rule.protectedWorld,
+                    rule.schedule != null ? resolveScheduleSpec(rule.schedule, rule.match) : null,
+                    rule.regenerateOnWipe
+            ));
+        }
+        WorldRuleMatcher<WorldRule> matcher = WorldRuleMatcher.compile(compiled);
+        for (String pattern : matcher.invalidPatterns()) {
+            LOGGER.at(Level.WARNING).log("[WorldWipe] Ignoring world rule with invalid pattern '%s'.", pattern);
+        }
+        return matcher;
+    }
+
     private OfflineTrackingMode resolveOfflineTrackingMode(String value) {
         if (value == null || value.isBlank()) {
             return OfflineTrackingMode.ALL;
@@ -1569,65 +2416,129 @@ public class WorldWipePlugin extends JavaPlugin {
         }
     }
 
-    private void prunePlayerLastSeen() {
-        if (!offlineTrackingEnabled || offlineTrackingMaxDays <= 0) {
-            return;
+    private LastSeenStore.Backing resolveOfflineTrackingStorage(String value) {
+        if (value == null || value.isBlank()) {
+            return LastSeenStore.Backing.HEAP;
+        }
+        try {
+            return LastSeenStore.Backing.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ignored) {
+            return LastSeenStore.Backing.HEAP;
         }
-        Instant cutoff = Instant.now().minus(Duration.ofDays(offlineTrackingMaxDays));
-        playerLastSeen.entrySet().removeIf(entry -> entry.getValue() == null || entry.getValue().isBefore(cutoff));
     }
 
-    private void pruneOfflineWorldLastWipe() {
-        if (!offlineTrackingEnabled || offlineTrackingMaxDays <= 0) {
-            return;
+    private List<Duration> resolveCountdownWarnings(List<String> values) {
+        if (values == null || values.isEmpty()) {
+            return List.of();
         }
-        Instant cutoff = Instant.now().minus(Duration.ofDays(offlineTrackingMaxDays));
-        offlineWorldLastWipe.entrySet()
-                .removeIf(entry -> entry.getValue() == null || entry.getValue().isBefore(cutoff));
+        List<Duration> warnings = new ArrayList<>();
+        for (String value : values) {
+            Duration parsed = parseCountdownDuration(value);
+            if (parsed == null) {
+                LOGGER.at(Level.WARNING).log(
+                        "[WorldWipe] Invalid countdown warning '%s'. Use e.g. 10m, 30s or 1h.",
+                        value
+                );
+                continue;
+            }
+            if (!warnings.contains(parsed)) {
+                warnings.add(parsed);
+            }
+        }
+        warnings.sort(Comparator.reverseOrder());
+        return List.copyOf(warnings);
     }
 
-    private Instant getOfflineWorldLastWipe(String worldName) {
-        if (worldName == null || worldName.isBlank()) {
+    private Duration parseCountdownDuration(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String trimmed = value.trim().toLowerCase(Locale.ROOT);
+        char unit = trimmed.charAt(trimmed.length() - 1);
+        String amountText = Character.isDigit(unit) ? trimmed : trimmed.substring(0, trimmed.length() - 1);
+        long amount;
+        try {
+            amount = Long.parseLong(amountText.trim());
+        } catch (NumberFormatException ignored) {
             return null;
         }
-        String key = worldName.trim().toLowerCase(Locale.ROOT);
-        Instant fromOffline = offlineWorldLastWipe.get(key);
-        Instant fromConfig = worldLastWipe.get(key);
-        if (fromOffline == null) {
-            return fromConfig;
+        if (amount <= 0) {
+            return null;
+        }
+        return switch (unit) {
+            case 'h' -> Duration.ofHours(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            case 's' -> Duration.ofSeconds(amount);
+            default -> Character.isDigit(unit) ? Duration.ofSeconds(amount) : null;
+        };
+    }
+
+    private boolean persistsOfflineState() {
+        WipeState current = state;
+        return current.offlineTrackingEnabled() && current.offlineTrackingSaveFile();
+    }
+
+    private void prunePlayerLastSeen() {
+        if (!state.offlineTrackingEnabled()) {
+            return;
         }
-        if (fromConfig == null) {
-            return fromOffline;
+        playerSeenEpochs.prune(wipeEpochs.minimum());
+        playerSeenEpochs.expire();
+    }
+
+    private void pruneOfflineWorldLastWipe() {
+        pruneOfflineWorldLastWipe(state);
+    }
+
+    private void pruneOfflineWorldLastWipe(WipeState current) {
+        if (!current.offlineTrackingEnabled() || current.offlineTrackingMaxDays() <= 0) {
+            return;
         }
-        return fromOffline.isAfter(fromConfig) ? fromOffline : fromConfig;
+        Instant cutoff = Instant.now().minus(Duration.ofDays(current.offlineTrackingMaxDays()));
+        offlineWorldLastWipe.entrySet()
+                .removeIf(entry -> entry.getValue() == null || entry.getValue().isBefore(cutoff));
+        wipeEpochs.retain(offlineWorldLastWipe.keySet());
     }
 
     private void recordWorldWipe(String worldName, Instant instant) {
-        if (!offlineTrackingEnabled || worldName == null || worldName.isBlank() || instant == null) {
+        if (!state.offlineTrackingEnabled() || worldName == null || worldName.isBlank() || instant == null) {
             return;
         }
-        String key = worldName.trim().toLowerCase(Locale.ROOT);
-        offlineWorldLastWipe.put(key, instant);
+        WorldKey key = WorldKey.of(worldName);
+        synchronized (offlineStateLock) {
+            offlineWorldLastWipe.put(key, instant);
+            wipeEpochs.advance(key);
+        }
         saveOfflineWorldLastWipe();
     }
 
     private void mergeWorldLastWipeIntoOffline() {
-        if (!offlineTrackingEnabled || worldLastWipe == null || worldLastWipe.isEmpty()) {
+        WipeState snapshot = state;
+        if (!snapshot.offlineTrackingEnabled() || snapshot.worldLastWipe().isEmpty()) {
             return;
         }
-        for (Map.Entry<String, Instant> entry : worldLastWipe.entrySet()) {
-            String key = entry.getKey();
+        boolean rebuildEpochs = wipeEpochs.isEmpty();
+        for (Map.Entry<WorldKey, Instant> entry : snapshot.worldLastWipe().entrySet()) {
+            WorldKey key = entry.getKey();
             Instant instant = entry.getValue();
-            if (key == null || key.isBlank() || instant == null) {
+            if (key == null || instant == null) {
                 continue;
             }
-            offlineWorldLastWipe.merge(key.toLowerCase(Locale.ROOT), instant, (current, incoming) ->
-                    incoming.isAfter(current) ? incoming : current
-            );
+            Instant current = offlineWorldLastWipe.get(key);
+            if (current != null && !instant.isAfter(current)) {
+                continue;
+            }
+            offlineWorldLastWipe.put(key, instant);
+            if (!rebuildEpochs) {
+                wipeEpochs.advance(key);
+            }
         }
-        pruneOfflineWorldLastWipe();
-        if (offlineTrackingSaveFile) {
-            saveOfflineWorldLastWipe();
+        if (rebuildEpochs) {
+            wipeEpochs.rebuild(offlineWorldLastWipe);
+        }
+        pruneOfflineWorldLastWipe(snapshot);
+        if (snapshot.offlineTrackingSaveFile()) {
+            persistence.markDirty(WORLD_LAST_WIPE_STATE);
         }
     }
 
@@ -1650,6 +2561,10 @@ public class WorldWipePlugin extends JavaPlugin {
         return Paths.get("mods", "WorldWipe", WORLD_LAST_WIPE_FILE);
     }
 
+    private Path resolveWipeEpochPath() {
+        return Paths.get("mods", "WorldWipe", WORLD_WIPE_EPOCH_FILE);
+    }
+
     private Path resolveLegacyConfigPath() {
         Path[] candidates = new Path[] {
                 Paths.get("mods", "WorldWipe", "config.json"),
@@ -1689,123 +2604,260 @@ public class WorldWipePlugin extends JavaPlugin {
     }
 
     private void loadPlayerLastSeen() {
-        if (!offlineTrackingEnabled || !offlineTrackingSaveFile) {
+        if (!persistsOfflineState()) {
             return;
         }
-        playerLastSeen.clear();
+        playerSeenEpochs.clear();
+        try {
+            if (playerSeenEpochs.exists()) {
+                playerSeenEpochs.load();
+            } else {
+                List<Path> legacyFiles = migrateLegacyPlayerLastSeen();
+                if (!legacyFiles.isEmpty() && compactPlayerLastSeen()) {
+                    markMigrated(legacyFiles);
+                }
+            }
+            prunePlayerLastSeen();
+            LOGGER.at(Level.INFO).log(
+                    "[WorldWipe] Player last-seen data ready (%s shards, %s storage); shards load on first use.",
+                    ShardedLastSeenStore.SHARD_COUNT,
+                    playerSeenEpochs.backing()
+            );
+        } catch (Exception e) {
+            LOGGER.at(Level.WARNING).withCause(e).log("[WorldWipe] Failed to load player last-seen data.");
+        }
+    }
+
+    private List<Path> migrateLegacyPlayerLastSeen() throws IOException {
+        List<Path> unsharded = migrateUnshardedPlayerSeenEpochs();
+        if (!unsharded.isEmpty()) {
+            return unsharded;
+        }
+        Map<WorldKey, Instant> lastWipes = new HashMap<>(offlineWorldLastWipe);
+        Path snapshotPath = Paths.get("mods", "WorldWipe", PLAYER_LAST_SEEN_SNAPSHOT_FILE);
+        Path journalPath = Paths.get("mods", "WorldWipe", PLAYER_LAST_SEEN_JOURNAL_FILE);
+        try (LastSeenJournal legacy = new LastSeenJournal(snapshotPath, journalPath)) {
+            if (legacy.exists()) {
+                legacy.load((mostSignificant, leastSignificant, millis) -> putMigratedLastSeen(
+                        new UUID(mostSignificant, leastSignificant),
+                        Instant.ofEpochMilli(millis),
+                        lastWipes
+                ));
+            }
+        }
+        List<Path> legacyFiles = existingFiles(snapshotPath, journalPath);
+        if (legacyFiles.isEmpty()) {
+            legacyFiles = migrateLegacyPlayerLastSeenJson(lastWipes);
+        }
+        if (!legacyFiles.isEmpty()) {
+            LOGGER.at(Level.INFO).log(
+                    "[WorldWipe] Converted %s player last-seen entries to wipe epochs.",
+                    playerSeenEpochs.size()
+            );
+        }
+        return legacyFiles;
+    }
+
+    private List<Path> migrateUnshardedPlayerSeenEpochs() throws IOException {
+        Path snapshotPath = Paths.get("mods", "WorldWipe", PLAYER_SEEN_EPOCH_SNAPSHOT_FILE);
+        Path journalPath = Paths.get("mods", "WorldWipe", PLAYER_SEEN_EPOCH_JOURNAL_FILE);
+        try (LastSeenJournal unsharded = new LastSeenJournal(snapshotPath, journalPath)) {
+            if (!unsharded.exists()) {
+                return List.of();
+            }
+            playerSeenEpochs.importFrom(unsharded);
+        }
+        LOGGER.at(Level.INFO).log(
+                "[WorldWipe] Split %s player last-seen entries into %s shards.",
+                playerSeenEpochs.size(),
+                ShardedLastSeenStore.SHARD_COUNT
+        );
+        return existingFiles(snapshotPath, journalPath);
+    }
+
+    private static List<Path> existingFiles(Path... paths) {
+        List<Path> existing = new ArrayList<>();
+        for (Path path : paths) {
+            if (Files.exists(path)) {
+                existing.add(path);
+            }
+        }
+        return existing;
+    }
+
+    private static void markMigrated(List<Path> legacyPaths) throws IOException {
+        for (Path legacyPath : legacyPaths) {
+            if (Files.exists(legacyPath)) {
+                Files.move(
+                        legacyPath,
+                        legacyPath.resolveSibling(legacyPath.getFileName() + ".migrated"),
+                        StandardCopyOption.REPLACE_EXISTING
+                );
+            }
+        }
+    }
+
+    private List<Path> migrateLegacyPlayerLastSeenJson(Map<WorldKey, Instant> lastWipes) throws IOException {
         Path path = resolvePlayerLastSeenPath();
         if (path == null || Files.notExists(path)) {
-            return;
+            return List.of();
         }
-        try {
-            String raw = Files.readString(path);
-            if (raw == null || raw.isBlank()) {
-                return;
+        String raw = Files.readString(path);
+        if (raw == null || raw.isBlank()) {
+            return List.of();
+        }
+        Map<String, String> data = GSON.fromJson(raw, STRING_MAP_TYPE);
+        if (data == null || data.isEmpty()) {
+            return List.of();
+        }
+        for (Map.Entry<String, String> entry : data.entrySet()) {
+            if (entry.getKey() == null || entry.getKey().isBlank()) {
+                continue;
             }
-            Map<String, String> data = GSON.fromJson(raw, STRING_MAP_TYPE);
-            if (data == null || data.isEmpty()) {
-                return;
+            Instant instant = parseInstant(entry.getValue());
+            if (instant == null) {
+                continue;
             }
-            for (Map.Entry<String, String> entry : data.entrySet()) {
-                if (entry.getKey() == null || entry.getKey().isBlank()) {
-                    continue;
-                }
-                Instant instant = parseInstant(entry.getValue());
-                if (instant == null) {
-                    continue;
-                }
-                try {
-                    UUID playerId = UUID.fromString(entry.getKey());
-                    playerLastSeen.put(playerId, instant);
-                } catch (IllegalArgumentException ignored) {
-                }
+            try {
+                UUID playerId = UUID.fromString(entry.getKey());
+                putMigratedLastSeen(playerId, instant, lastWipes);
+            } catch (IllegalArgumentException ignored) {
+            }
+        }
+        return List.of(path);
+    }
+
+    private void putMigratedLastSeen(UUID playerId, Instant lastSeen, Map<WorldKey, Instant> lastWipes) {
+        int day = (int) Math.floorDiv(lastSeen.toEpochMilli(), Duration.ofDays(1).toMillis());
+        playerSeenEpochs.put(playerId, wipeEpochs.seenAt(lastSeen, lastWipes), day);
+    }
+
+    private void appendPlayerLastSeen(UUID playerId, long worldScope, long seenRecord) {
+        if (!persistsOfflineState()) {
+            return;
+        }
+        try {
+            playerSeenEpochs.append(playerId, worldScope, seenRecord);
+            persistence.markDirty(PLAYER_LAST_SEEN_STATE);
+            if (playerSeenEpochs.journalRecords() >= LAST_SEEN_COMPACT_THRESHOLD
+                    && scheduler != null
+                    && lastSeenCompactionQueued.compareAndSet(false, true)) {
+                scheduler.execute(this::compactPlayerLastSeenIfNeeded);
             }
-            prunePlayerLastSeen();
         } catch (Exception e) {
-            LOGGER.at(Level.WARNING).withCause(e).log("[WorldWipe] Failed to load player last-seen data.");
+            LOGGER.at(Level.WARNING).withCause(e).log("[WorldWipe] Failed to append player last-seen data.");
         }
     }
 
-    private void savePlayerLastSeen() {
-        if (!offlineTrackingEnabled || !offlineTrackingSaveFile) {
+    private void compactPlayerLastSeenIfNeeded() {
+        lastSeenCompactionQueued.set(false);
+        prunePlayerLastSeen();
+        if (!persistsOfflineState()) {
+            playerSeenEpochs.purgeExpired();
             return;
         }
-        Path path = resolvePlayerLastSeenPath();
-        if (path == null) {
+        if (playerSeenEpochs.journalRecords() == 0L && !playerSeenEpochs.hasExpired()) {
             return;
         }
+        compactPlayerLastSeen();
+    }
+
+    private boolean compactPlayerLastSeen() {
+        if (!persistsOfflineState()) {
+            return false;
+        }
         try {
-            Files.createDirectories(path.getParent());
             prunePlayerLastSeen();
-            Map<String, String> out = new HashMap<>();
-            for (Map.Entry<UUID, Instant> entry : playerLastSeen.entrySet()) {
-                if (entry.getKey() == null || entry.getValue() == null) {
-                    continue;
-                }
-                out.put(entry.getKey().toString(), entry.getValue().toString());
-            }
-            Files.writeString(path, GSON.toJson(out));
+            playerSeenEpochs.compact();
+            return true;
         } catch (Exception e) {
-            LOGGER.at(Level.WARNING).withCause(e).log("[WorldWipe] Failed to save player last-seen data.");
+            LOGGER.at(Level.WARNING).withCause(e).log("[WorldWipe] Failed to compact player last-seen data.");
+            return false;
+        }
+    }
+
+    private void closePlayerLastSeenJournal() {
+        try {
+            playerSeenEpochs.close();
+        } catch (IOException e) {
+            LOGGER.at(Level.WARNING).withCause(e).log("[WorldWipe] Failed to close player last-seen journal.");
         }
     }
 
     private void loadOfflineWorldLastWipe() {
-        if (!offlineTrackingEnabled || !offlineTrackingSaveFile) {
+        if (!persistsOfflineState()) {
             return;
         }
         offlineWorldLastWipe.clear();
         Path path = resolveWorldLastWipePath();
-        if (path == null || Files.notExists(path)) {
-            return;
-        }
         try {
-            String raw = Files.readString(path);
-            if (raw == null || raw.isBlank()) {
-                return;
-            }
-            Map<String, String> data = GSON.fromJson(raw, STRING_MAP_TYPE);
-            if (data == null || data.isEmpty()) {
-                return;
+            String raw = AtomicFiles.readChecksummed(path);
+            Map<String, String> data = raw == null || raw.isBlank() ? null : GSON.fromJson(raw, STRING_MAP_TYPE);
+            if (data == null) {
+                data = Map.of();
             }
             for (Map.Entry<String, String> entry : data.entrySet()) {
-                if (entry.getKey() == null || entry.getKey().isBlank()) {
+                WorldKey key = WorldKey.of(entry.getKey());
+                if (key == null) {
                     continue;
                 }
                 Instant instant = parseInstant(entry.getValue());
                 if (instant == null) {
                     continue;
                 }
-                offlineWorldLastWipe.put(entry.getKey().trim().toLowerCase(Locale.ROOT), instant);
+                offlineWorldLastWipe.put(key, instant);
             }
-            pruneOfflineWorldLastWipe();
         } catch (Exception e) {
             LOGGER.at(Level.WARNING).withCause(e).log("[WorldWipe] Failed to load world last-wipe data.");
         }
+        loadWipeEpochs();
+        pruneOfflineWorldLastWipe();
+    }
+
+    private void loadWipeEpochs() {
+        Path path = resolveWipeEpochPath();
+        try {
+            String raw = AtomicFiles.readChecksummed(path);
+            if (raw != null && !raw.isBlank()) {
+                WipeEpochData data = GSON.fromJson(raw, WipeEpochData.class);
+                if (data != null) {
+                    wipeEpochs.restore(data.current(), data.worlds());
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            LOGGER.at(Level.WARNING).withCause(e).log("[WorldWipe] Failed to load wipe epochs; rebuilding from last-wipe times.");
+        }
+        wipeEpochs.restore(wipeEpochs.current(), Map.of());
+        wipeEpochs.rebuild(offlineWorldLastWipe);
     }
 
     private void saveOfflineWorldLastWipe() {
-        if (!offlineTrackingEnabled || !offlineTrackingSaveFile) {
+        if (!persistsOfflineState()) {
             return;
         }
-        Path path = resolveWorldLastWipePath();
-        if (path == null) {
+        persistence.markDirty(WORLD_LAST_WIPE_STATE);
+    }
+
+    private void writeOfflineWorldLastWipe() throws IOException {
+        if (!persistsOfflineState()) {
             return;
         }
-        try {
-            Files.createDirectories(path.getParent());
-            pruneOfflineWorldLastWipe();
-            Map<String, String> out = new HashMap<>();
-            for (Map.Entry<String, Instant> entry : offlineWorldLastWipe.entrySet()) {
-                if (entry.getKey() == null || entry.getValue() == null) {
-                    continue;
-                }
-                out.put(entry.getKey(), entry.getValue().toString());
+        Path path = resolveWorldLastWipePath();
+        Files.createDirectories(path.getParent());
+        pruneOfflineWorldLastWipe();
+        Map<String, String> out = new HashMap<>();
+        for (Map.Entry<WorldKey, Instant> entry : offlineWorldLastWipe.entrySet()) {
+            if (entry.getKey() == null || entry.getValue() == null) {
+                continue;
             }
-            Files.writeString(path, GSON.toJson(out));
-        } catch (Exception e) {
-            LOGGER.at(Level.WARNING).withCause(e).log("[WorldWipe] Failed to save world last-wipe data.");
+            out.put(entry.getKey().value(), entry.getValue().toString());
         }
+        AtomicFiles.writeChecksummed(path, GSON.toJson(out));
+        AtomicFiles.writeChecksummed(
+                resolveWipeEpochPath(),
+                GSON.toJson(new WipeEpochData(wipeEpochs.current(), wipeEpochs.snapshot()))
+        );
     }
 
 }
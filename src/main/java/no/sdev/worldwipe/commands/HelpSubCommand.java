@@ -78,6 +78,14 @@ public class HelpSubCommand extends CommandBase {
                 && isAdmin) {
             lines.add("/wipe schedule remove <world> - Remove a world schedule");
         }
+        if ((!isPlayer || WorldWipePermissions.hasCommand(context.sender(), "schedule.import"))
+                && isAdmin) {
+            lines.add("/wipe schedule import <file> - Apply schedule changes from a CSV or YAML file");
+        }
+        if ((!isPlayer || WorldWipePermissions.hasCommand(context.sender(), "schedule.export"))
+                && isAdmin) {
+            lines.add("/wipe schedule export [file] - Write the schedule table to a CSV or YAML file");
+        }
         if ((!isPlayer || WorldWipePermissions.hasCommand(context.sender(), "schedule.enable"))
                 && isAdmin) {
             lines.add("/wipe schedule enable - Enable scheduled wipes");
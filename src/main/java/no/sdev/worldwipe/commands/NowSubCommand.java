@@ -65,7 +65,6 @@ public class NowSubCommand extends CommandBase {
             return;
         }
 
-        List<String> protectedWorlds = plugin.getProtectedWorlds();
         String destinationWorldName = plugin.getPrimaryProtectedWorld();
         String defaultWorldName = destinationWorldName != null ? destinationWorldName : "default";
 
@@ -79,7 +78,7 @@ public class NowSubCommand extends CommandBase {
                 if (resettingWorldName == null || resettingWorldName.isBlank()) {
                     continue;
                 }
-                if (isProtectedWorld(resettingWorldName, protectedWorlds)) {
+                if (plugin.isProtectedWorld(resettingWorldName)) {
                     context.sendMessage(Message.raw(
                             "Skipping protected world: " + resettingWorldName
                     ));
@@ -105,7 +104,7 @@ public class NowSubCommand extends CommandBase {
             if (resettingWorldName == null || resettingWorldName.isBlank()) {
                 continue;
             }
-            if (isProtectedWorld(resettingWorldName, protectedWorlds)) {
+            if (plugin.isProtectedWorld(resettingWorldName)) {
                 context.sendMessage(Message.raw(
                         "Skipping protected world: " + resettingWorldName
                 ));
@@ -118,16 +117,4 @@ public class NowSubCommand extends CommandBase {
 
         context.sendMessage(Message.raw("World wipe complete."));
     }
-
-    private boolean isProtectedWorld(String worldName, List<String> protectedWorlds) {
-        if (worldName == null || protectedWorlds == null || protectedWorlds.isEmpty()) {
-            return false;
-        }
-        for (String protectedWorld : protectedWorlds) {
-            if (protectedWorld != null && worldName.equalsIgnoreCase(protectedWorld)) {
-                return true;
-            }
-        }
-        return false;
-    }
 }
@@ -0,0 +1,85 @@
+package no.sdev.worldwipe.commands;
+
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.command.system.CommandContext;
+import com.hypixel.hytale.server.core.command.system.CommandSender;
+import com.hypixel.hytale.server.core.command.system.arguments.system.OptionalArg;
+import com.hypixel.hytale.server.core.command.system.arguments.types.ArgTypes;
+import com.hypixel.hytale.server.core.command.system.basecommands.CommandBase;
+import no.sdev.worldwipe.WorldWipePlugin;
+import no.sdev.worldwipe.permissions.WorldWipePermissions;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+public class ScheduleExportSubCommand extends CommandBase {
+
+    private final OptionalArg<String> fileArg;
+
+    public ScheduleExportSubCommand() {
+        super("export", "Write the schedule table to a CSV or YAML file");
+        this.setPermissionGroup(null);
+
+        this.fileArg = this.withOptionalArg("file", "File in mods/WorldWipe (.csv, .yml)", ArgTypes.STRING);
+    }
+
+    @Override
+    protected boolean canGeneratePermission() {
+        return false;
+    }
+
+    @Override
+    public Message getUsageString(CommandSender sender) {
+        if (sender != null && !sender.hasPermission(WorldWipePermissions.HELP)) {
+            return Message.raw("Unknown command.");
+        }
+        return super.getUsageString(sender);
+    }
+
+    @Override
+    public Message getUsageShort(CommandSender sender, boolean includeArgs) {
+        if (sender != null && !sender.hasPermission(WorldWipePermissions.HELP)) {
+            return Message.raw("Unknown command.");
+        }
+        return super.getUsageShort(sender, includeArgs);
+    }
+
+    @Override
+    protected void executeSync(@Nonnull CommandContext context) {
+        WorldWipePlugin plugin = WorldWipePlugin.getInstance();
+
+        if (context.isPlayer()) {
+            if (!WorldWipePermissions.hasCommand(context.sender(), "schedule.export")) {
+                context.sendMessage(Message.raw("You don't have permission. ("
+                        + WorldWipePermissions.command("schedule.export") + ")"));
+                return;
+            }
+            if (!WorldWipePermissions.hasAdmin(context.sender())) {
+                context.sendMessage(Message.raw("You don't have permission. ("
+                        + WorldWipePermissions.ADMIN + ")"));
+                return;
+            }
+        }
+
+        String fileName = context.provided(fileArg) ? context.get(fileArg) : ScheduleTable.DEFAULT_EXPORT_FILE;
+        Path file = ScheduleTable.resolveExport(fileName);
+        if (file == null) {
+            context.sendMessage(Message.raw(
+                    "Invalid file. Use a .csv, .yml or .yaml file inside mods/WorldWipe that is not a config or state file."
+            ));
+            return;
+        }
+
+        List<WorldWipePlugin.WorldSchedule> schedules = plugin.getWorldSchedules();
+        try {
+            ScheduleTable.write(file, schedules);
+        } catch (IOException e) {
+            context.sendMessage(Message.raw("Failed to write " + fileName + ": " + e.getMessage()));
+            return;
+        }
+
+        context.sendMessage(Message.raw("Exported " + schedules.size() + " schedule(s) to mods/WorldWipe/" + fileName + "."));
+    }
+}
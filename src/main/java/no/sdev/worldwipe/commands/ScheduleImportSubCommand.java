@@ -0,0 +1,131 @@
+package no.sdev.worldwipe.commands;
+
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.command.system.CommandContext;
+import com.hypixel.hytale.server.core.command.system.CommandSender;
+import com.hypixel.hytale.server.core.command.system.arguments.system.RequiredArg;
+import com.hypixel.hytale.server.core.command.system.arguments.types.ArgTypes;
+import com.hypixel.hytale.server.core.command.system.basecommands.CommandBase;
+import no.sdev.worldwipe.WorldWipePlugin;
+import no.sdev.worldwipe.permissions.WorldWipePermissions;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class ScheduleImportSubCommand extends CommandBase {
+
+    private static final int MAX_REPORTED_ERRORS = 10;
+
+    private final RequiredArg<String> fileArg;
+
+    public ScheduleImportSubCommand() {
+        super("import", "Apply schedule changes from a CSV or YAML file");
+        this.setPermissionGroup(null);
+
+        this.fileArg = this.withRequiredArg("file", "File in mods/WorldWipe (.csv, .yml)", ArgTypes.STRING);
+    }
+
+    @Override
+    protected boolean canGeneratePermission() {
+        return false;
+    }
+
+    @Override
+    public Message getUsageString(CommandSender sender) {
+        if (sender != null && !sender.hasPermission(WorldWipePermissions.HELP)) {
+            return Message.raw("Unknown command.");
+        }
+        return super.getUsageString(sender);
+    }
+
+    @Override
+    public Message getUsageShort(CommandSender sender, boolean includeArgs) {
+        if (sender != null && !sender.hasPermission(WorldWipePermissions.HELP)) {
+            return Message.raw("Unknown command.");
+        }
+        return super.getUsageShort(sender, includeArgs);
+    }
+
+    @Override
+    protected void executeSync(@Nonnull CommandContext context) {
+        WorldWipePlugin plugin = WorldWipePlugin.getInstance();
+
+        if (context.isPlayer()) {
+            if (!WorldWipePermissions.hasCommand(context.sender(), "schedule.import")) {
+                context.sendMessage(Message.raw("You don't have permission. ("
+                        + WorldWipePermissions.command("schedule.import") + ")"));
+                return;
+            }
+            if (!WorldWipePermissions.hasAdmin(context.sender())) {
+                context.sendMessage(Message.raw("You don't have permission. ("
+                        + WorldWipePermissions.ADMIN + ")"));
+                return;
+            }
+        }
+
+        String fileName = context.get(fileArg);
+        Path file = ScheduleTable.resolve(fileName);
+        if (file == null) {
+            context.sendMessage(Message.raw("Invalid file. Use a path inside mods/WorldWipe."));
+            return;
+        }
+        if (!Files.isRegularFile(file)) {
+            context.sendMessage(Message.raw("File not found: " + fileName));
+            return;
+        }
+
+        ScheduleTable.Parsed parsed;
+        try {
+            parsed = ScheduleTable.read(file, world -> rejectWorld(plugin, world));
+        } catch (IOException e) {
+            context.sendMessage(Message.raw("Failed to read " + fileName + ": " + e.getMessage()));
+            return;
+        }
+
+        if (!parsed.errors().isEmpty()) {
+            context.sendMessage(Message.raw("Import rejected; no schedules were changed. "
+                    + parsed.errors().size() + " invalid row(s):"));
+            for (int i = 0; i < Math.min(MAX_REPORTED_ERRORS, parsed.errors().size()); i++) {
+                context.sendMessage(Message.raw("- " + parsed.errors().get(i)));
+            }
+            if (parsed.errors().size() > MAX_REPORTED_ERRORS) {
+                context.sendMessage(Message.raw("... and " + (parsed.errors().size() - MAX_REPORTED_ERRORS) + " more."));
+            }
+            return;
+        }
+        if (parsed.changes().isEmpty()) {
+            context.sendMessage(Message.raw("No schedule changes found in " + fileName + "."));
+            return;
+        }
+
+        int removals = 0;
+        for (WorldWipePlugin.ScheduleChange change : parsed.changes()) {
+            if (change.isRemoval()) {
+                removals++;
+            }
+        }
+        int updates = parsed.changes().size() - removals;
+
+        if (!plugin.applyScheduleChanges(parsed.changes())) {
+            context.sendMessage(Message.raw(removals == parsed.changes().size()
+                    ? "No matching schedules to remove."
+                    : "Failed to import schedules from " + fileName + "."));
+            return;
+        }
+
+        context.sendMessage(Message.raw("Imported " + fileName + ": " + updates + " schedule(s) set, "
+                + removals + " removal(s)."));
+    }
+
+    private static String rejectWorld(WorldWipePlugin plugin, String world) {
+        if (plugin.isProtectedWorld(world)) {
+            return "world '" + world + "' is protected.";
+        }
+        if (!plugin.isWorldSchedulable(world)) {
+            return "world '" + world + "' is not loaded, not loadable and does not regenerate on wipe.";
+        }
+        return null;
+    }
+}
@@ -15,7 +15,6 @@ import java.time.DayOfWeek;
 import java.time.LocalTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeParseException;
-import java.util.List;
 import java.util.Locale;
 
 public class ScheduleSetSubCommand extends CommandBase {
@@ -139,7 +138,7 @@ public class ScheduleSetSubCommand extends CommandBase {
             return;
         }
 
-        if (isProtectedWorld(world, plugin.getProtectedWorlds())) {
+        if (plugin.isProtectedWorld(world)) {
             context.sendMessage(Message.raw("Note: " + world + " is protected and will never wipe."));
         }
 
@@ -222,16 +221,4 @@ public class ScheduleSetSubCommand extends CommandBase {
             return null;
         }
     }
-
-    private boolean isProtectedWorld(String worldName, List<String> protectedWorlds) {
-        if (worldName == null || protectedWorlds == null || protectedWorlds.isEmpty()) {
-            return false;
-        }
-        for (String protectedWorld : protectedWorlds) {
-            if (protectedWorld != null && worldName.equalsIgnoreCase(protectedWorld)) {
-                return true;
-            }
-        }
-        return false;
-    }
 }
@@ -13,6 +13,8 @@ public class ScheduleSubCommand extends AbstractCommandCollection {
         this.addSubCommand(new ScheduleSetSubCommand());
         this.addSubCommand(new ScheduleRemoveSubCommand());
         this.addSubCommand(new ScheduleListSubCommand());
+        this.addSubCommand(new ScheduleImportSubCommand());
+        this.addSubCommand(new ScheduleExportSubCommand());
         this.addSubCommand(new ScheduleEnableSubCommand());
         this.addSubCommand(new ScheduleDisableSubCommand());
     }
@@ -0,0 +1,345 @@
+package no.sdev.worldwipe.commands;
+
+import no.sdev.worldwipe.WorldWipePlugin;
+import no.sdev.worldwipe.persistence.AtomicFiles;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+final class ScheduleTable {
+
+    static final String DEFAULT_EXPORT_FILE = "schedules.csv";
+
+    private static final Path BASE_DIRECTORY = Paths.get("mods", "WorldWipe");
+    private static final String CSV_HEADER = "world,mode,day,time,zone";
+    private static final String REMOVE = "REMOVE";
+    private static final Set<String> EXPORT_EXTENSIONS = Set.of(".csv", ".yml", ".yaml");
+    private static final Set<String> RESERVED_DIRECTORIES = Set.of("worlds", "last-seen");
+    private static final Set<String> RESERVED_FILES = Set.of(
+            "config.yml",
+            "config.json",
+            "player-last-seen.json",
+            "player-last-seen.bin",
+            "player-last-seen.journal",
+            "player-seen-epoch.bin",
+            "player-seen-epoch.journal",
+            "world-last-wipe.json",
+            "world-wipe-epochs.json"
+    );
+
+    interface WorldCheck {
+        WorldCheck NONE = world -> null;
+
+        String reject(String world);
+    }
+
+    record Parsed(List<WorldWipePlugin.ScheduleChange> changes, List<String> errors) {
+    }
+
+    private ScheduleTable() {
+    }
+
+    static Path resolve(String fileName) {
+        if (fileName == null || fileName.isBlank()) {
+            return null;
+        }
+        Path base = BASE_DIRECTORY.toAbsolutePath().normalize();
+        Path resolved = base.resolve(fileName.trim()).normalize();
+        return resolved.startsWith(base) ? resolved : null;
+    }
+
+    static Path resolveExport(String fileName) {
+        Path resolved = resolve(fileName);
+        if (resolved == null) {
+            return null;
+        }
+        Path relative = BASE_DIRECTORY.toAbsolutePath().normalize().relativize(resolved);
+        if (relative.getNameCount() == 0 || relative.toString().isEmpty()) {
+            return null;
+        }
+        String name = relative.getFileName().toString().toLowerCase(Locale.ROOT);
+        int dot = name.lastIndexOf('.');
+        if (dot <= 0 || !EXPORT_EXTENSIONS.contains(name.substring(dot))) {
+            return null;
+        }
+        if (RESERVED_DIRECTORIES.contains(relative.getName(0).toString().toLowerCase(Locale.ROOT))) {
+            return null;
+        }
+        if (relative.getNameCount() == 1 && RESERVED_FILES.contains(name)) {
+            return null;
+        }
+        return resolved;
+    }
+
+    static Parsed read(Path file, WorldCheck check) throws IOException {
+        String content = Files.readString(file);
+        return isYaml(file) ? parseYaml(content, check) : parseCsv(content, check);
+    }
+
+    static void write(Path file, List<WorldWipePlugin.WorldSchedule> schedules) throws IOException {
+        AtomicFiles.writeString(
+                file,
+                isYaml(file) ? formatYaml(schedules) : formatCsv(schedules)
+        );
+    }
+
+    static Parsed parseCsv(String content) {
+        return parseCsv(content, WorldCheck.NONE);
+    }
+
+    static Parsed parseCsv(String content, WorldCheck check) {
+        List<Map<String, String>> rows = new ArrayList<>();
+        List<Integer> lines = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        String[] columns = CSV_HEADER.split(",");
+        String[] split = content.split("\\R");
+        for (int i = 0; i < split.length; i++) {
+            String line = split[i].trim();
+            if (line.isEmpty() || line.startsWith("#") || line.equalsIgnoreCase(CSV_HEADER)) {
+                continue;
+            }
+            String[] cells = line.split(",", -1);
+            if (cells.length > columns.length) {
+                errors.add("line " + (i + 1) + ": too many columns.");
+                continue;
+            }
+            Map<String, String> row = new LinkedHashMap<>();
+            for (int column = 0; column < columns.length; column++) {
+                row.put(columns[column], column < cells.length ? cells[column].trim() : "");
+            }
+            rows.add(row);
+            lines.add(i + 1);
+        }
+        return validate(rows, lines, "line", errors, check);
+    }
+
+    static Parsed parseYaml(String content) {
+        return parseYaml(content, WorldCheck.NONE);
+    }
+
+    static Parsed parseYaml(String content, WorldCheck check) {
+        Object root;
+        try {
+            root = new Yaml(new SafeConstructor(new LoaderOptions())).load(content);
+        } catch (RuntimeException e) {
+            return new Parsed(List.of(), List.of("Invalid YAML: " + e.getMessage()));
+        }
+        if (root instanceof Map<?, ?> map && map.get("schedules") != null) {
+            root = map.get("schedules");
+        }
+        if (root == null) {
+            return new Parsed(List.of(), List.of());
+        }
+        if (!(root instanceof List<?> entries)) {
+            return new Parsed(List.of(), List.of("Expected a list of schedule entries."));
+        }
+        List<Map<String, String>> rows = new ArrayList<>();
+        List<Integer> positions = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            Map<String, String> row = new LinkedHashMap<>();
+            if (entries.get(i) instanceof Map<?, ?> entry) {
+                for (Map.Entry<?, ?> field : entry.entrySet()) {
+                    if (field.getKey() == null || field.getValue() == null) {
+                        continue;
+                    }
+                    String key = String.valueOf(field.getKey());
+                    if ("time".equals(key) && field.getValue() instanceof Number minutes) {
+                        row.put(key, LocalTime.of(0, 0).plusMinutes(minutes.longValue()).toString());
+                    } else {
+                        row.put(key, String.valueOf(field.getValue()).trim());
+                    }
+                }
+                if (Boolean.parseBoolean(row.get("remove"))) {
+                    row.put("mode", REMOVE);
+                }
+            }
+            rows.add(row);
+            positions.add(i + 1);
+        }
+        return validate(rows, positions, "entry", new ArrayList<>(), check);
+    }
+
+    static String formatCsv(List<WorldWipePlugin.WorldSchedule> schedules) {
+        StringBuilder builder = new StringBuilder(CSV_HEADER).append('\n');
+        for (WorldWipePlugin.WorldSchedule schedule : schedules) {
+            builder.append(schedule.world()).append(',')
+                    .append(schedule.mode()).append(',')
+                    .append(dayColumn(schedule)).append(',')
+                    .append(schedule.time()).append(',')
+                    .append(zoneColumn(schedule.zone())).append('\n');
+        }
+        return builder.toString();
+    }
+
+    static String formatYaml(List<WorldWipePlugin.WorldSchedule> schedules) {
+        List<Map<String, Object>> entries = new ArrayList<>();
+        for (WorldWipePlugin.WorldSchedule schedule : schedules) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("world", schedule.world());
+            entry.put("mode", schedule.mode().name());
+            String day = dayColumn(schedule);
+            if (!day.isEmpty()) {
+                entry.put("day", day);
+            }
+            entry.put("time", schedule.time().toString());
+            entry.put("zone", zoneColumn(schedule.zone()));
+            entries.add(entry);
+        }
+        DumperOptions options = new DumperOptions();
+        options.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK);
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("schedules", entries);
+        return new Yaml(options).dump(root);
+    }
+
+    private static Parsed validate(
+            List<Map<String, String>> rows,
+            List<Integer> positions,
+            String label,
+            List<String> errors,
+            WorldCheck check
+    ) {
+        List<WorldWipePlugin.ScheduleChange> changes = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < rows.size(); i++) {
+            Map<String, String> row = rows.get(i);
+            String prefix = label + " " + positions.get(i) + ": ";
+            String world = row.getOrDefault("world", "");
+            if (world.isBlank()) {
+                errors.add(prefix + "world name is required.");
+                continue;
+            }
+            if (!seen.add(world.toLowerCase(Locale.ROOT))) {
+                errors.add(prefix + "world '" + world + "' is listed more than once.");
+                continue;
+            }
+            String modeInput = row.getOrDefault("mode", "");
+            if (REMOVE.equalsIgnoreCase(modeInput)) {
+                changes.add(WorldWipePlugin.ScheduleChange.remove(world));
+                continue;
+            }
+            String rejection = check.reject(world);
+            if (rejection != null) {
+                errors.add(prefix + rejection);
+                continue;
+            }
+            WorldWipePlugin.ScheduleMode mode = parseMode(modeInput);
+            if (mode == null) {
+                errors.add(prefix + "invalid mode '" + modeInput + "'. Use WEEKLY, DAILY, MONTHLY or REMOVE.");
+                continue;
+            }
+            String dayInput = row.getOrDefault("day", row.getOrDefault("dayOfMonth", ""));
+            DayOfWeek day = DayOfWeek.MONDAY;
+            int dayOfMonth = 1;
+            if (mode == WorldWipePlugin.ScheduleMode.WEEKLY && !dayInput.isBlank()) {
+                day = parseDay(dayInput);
+                if (day == null) {
+                    errors.add(prefix + "invalid day '" + dayInput + "'. Use MONDAY..SUNDAY.");
+                    continue;
+                }
+            } else if (mode == WorldWipePlugin.ScheduleMode.MONTHLY && !dayInput.isBlank()) {
+                dayOfMonth = parseDayOfMonth(dayInput);
+                if (dayOfMonth < 1) {
+                    errors.add(prefix + "invalid date '" + dayInput + "'. Use 1-31.");
+                    continue;
+                }
+            }
+            String timeInput = row.getOrDefault("time", "");
+            LocalTime time = timeInput.isBlank() ? LocalTime.of(6, 0) : parseTime(timeInput);
+            if (time == null) {
+                errors.add(prefix + "invalid time '" + timeInput + "'. Use HH:mm (24h).");
+                continue;
+            }
+            String zone = parseZone(row.getOrDefault("zone", ""));
+            if (zone == null) {
+                errors.add(prefix + "invalid zone '" + row.get("zone") + "'.");
+                continue;
+            }
+            changes.add(new WorldWipePlugin.ScheduleChange(world, mode, day, dayOfMonth, time, zone));
+        }
+        return new Parsed(List.copyOf(changes), List.copyOf(errors));
+    }
+
+    private static boolean isYaml(Path file) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        return name.endsWith(".yml") || name.endsWith(".yaml");
+    }
+
+    private static String dayColumn(WorldWipePlugin.WorldSchedule schedule) {
+        return switch (schedule.mode()) {
+            case WEEKLY -> schedule.day().name();
+            case MONTHLY -> Integer.toString(schedule.dayOfMonth());
+            case DAILY -> "";
+        };
+    }
+
+    private static String zoneColumn(ZoneId zone) {
+        return zone == null || zone.equals(ZoneId.systemDefault()) ? "system" : zone.getId();
+    }
+
+    private static WorldWipePlugin.ScheduleMode parseMode(String input) {
+        if (input == null || input.isBlank()) {
+            return WorldWipePlugin.ScheduleMode.WEEKLY;
+        }
+        try {
+            return WorldWipePlugin.ScheduleMode.valueOf(input.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static DayOfWeek parseDay(String input) {
+        try {
+            return DayOfWeek.valueOf(input.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static int parseDayOfMonth(String input) {
+        try {
+            int value = Integer.parseInt(input.trim());
+            return value >= 1 && value <= 31 ? value : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static LocalTime parseTime(String input) {
+        try {
+            return LocalTime.parse(input.trim());
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static String parseZone(String input) {
+        if (input == null || input.isBlank() || "system".equalsIgnoreCase(input.trim())) {
+            return "system";
+        }
+        String zone = input.trim();
+        try {
+            ZoneId.of(zone);
+            return zone;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
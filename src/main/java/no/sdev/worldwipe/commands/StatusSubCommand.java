@@ -6,6 +6,7 @@ import com.hypixel.hytale.server.core.command.system.CommandSender;
 import com.hypixel.hytale.server.core.command.system.basecommands.CommandBase;
 import no.sdev.worldwipe.WorldWipePlugin;
 import no.sdev.worldwipe.permissions.WorldWipePermissions;
+import no.sdev.worldwipe.persistence.WriteBehindPersistence;
 
 import javax.annotation.Nonnull;
 import java.time.Duration;
@@ -71,6 +72,13 @@ public class StatusSubCommand extends CommandBase {
         context.sendMessage(Message.raw("Protected worlds: " + protectedWorldsLabel));
         context.sendMessage(Message.raw("Scheduling enabled: " + plugin.isSchedulingEnabled()));
         context.sendMessage(Message.raw("Reset worlds: " + resetWorldsLabel));
+        if (!context.isPlayer() || WorldWipePermissions.hasAdmin(context.sender())) {
+            WriteBehindPersistence.Metrics persistence = plugin.getPersistenceMetrics();
+            context.sendMessage(Message.raw("State writes: " + persistence.writes()
+                    + " (" + persistence.coalesced() + " coalesced, "
+                    + persistence.pendingDirty() + " pending), last flush "
+                    + persistence.lastFlushMicros() + " us"));
+        }
         List<WorldWipePlugin.WorldSchedule> schedules = plugin.getWorldSchedules();
         if (schedules.isEmpty()) {
             context.sendMessage(Message.raw("Schedules: none"));
@@ -101,7 +109,8 @@ public class StatusSubCommand extends CommandBase {
             return;
         }
 
-        Instant next = plugin.getNextScheduledWipeAt();
+        WorldWipePlugin.NextWipe nextWipe = plugin.getNextWipe();
+        Instant next = nextWipe.at();
         if (next == null) {
             context.sendMessage(Message.raw("Next wipe: Not scheduled"));
             context.sendMessage(Message.raw("========================"));
@@ -111,7 +120,7 @@ public class StatusSubCommand extends CommandBase {
         ZonedDateTime nextZoned = ZonedDateTime.ofInstant(next, ZoneId.systemDefault());
         long minutesRemaining = Duration.between(Instant.now(), next).toMinutes();
 
-        List<String> nextWorlds = plugin.getNextScheduledWorlds();
+        List<String> nextWorlds = nextWipe.worlds();
         if (context.isPlayer() && !WorldWipePermissions.hasAdmin(context.sender())) {
             nextWorlds = nextWorlds.stream()
                     .filter(world -> WorldWipePermissions.canViewSchedule(context.sender(), world))
@@ -0,0 +1,100 @@
+package no.sdev.worldwipe.config;
+
+import com.hypixel.hytale.logger.HytaleLogger;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+
+public final class ConfigWatcher implements Closeable {
+
+    private static final HytaleLogger LOGGER = HytaleLogger.forEnclosingClass();
+    private static final long DEBOUNCE_MILLIS = 500L;
+
+    private final Path directory;
+    private final Predicate<Path> filter;
+    private final Runnable onChange;
+    private WatchService watchService;
+    private Thread thread;
+
+    public ConfigWatcher(Path file, Runnable onChange) {
+        this(file.toAbsolutePath().getParent(), file.getFileName()::equals, onChange);
+    }
+
+    public ConfigWatcher(Path directory, Predicate<Path> filter, Runnable onChange) {
+        this.directory = directory.toAbsolutePath();
+        this.filter = filter;
+        this.onChange = onChange;
+    }
+
+    public synchronized void start() throws IOException {
+        if (thread != null) {
+            return;
+        }
+        Files.createDirectories(directory);
+        WatchService service = directory.getFileSystem().newWatchService();
+        directory.register(
+                service,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY,
+                StandardWatchEventKinds.ENTRY_DELETE
+        );
+        watchService = service;
+        thread = new Thread(() -> run(service), "WorldWipe-ConfigWatcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (thread == null) {
+            return;
+        }
+        thread.interrupt();
+        thread = null;
+        watchService.close();
+        watchService = null;
+    }
+
+    private void run(WatchService service) {
+        try {
+            while (true) {
+                if (!touchesFile(service.take())) {
+                    continue;
+                }
+                WatchKey next;
+                while ((next = service.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    next.pollEvents();
+                    next.reset();
+                }
+                try {
+                    onChange.run();
+                } catch (Exception e) {
+                    LOGGER.at(Level.WARNING).withCause(e).log("[WorldWipe] Failed to apply changes from %s.", directory);
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException ignored) {
+        }
+    }
+
+    private boolean touchesFile(WatchKey key) {
+        boolean touched = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW
+                    || (event.context() instanceof Path changed && filter.test(changed))) {
+                touched = true;
+            }
+        }
+        key.reset();
+        return touched;
+    }
+}
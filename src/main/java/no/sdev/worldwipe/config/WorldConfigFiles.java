@@ -0,0 +1,254 @@
+package no.sdev.worldwipe.config;
+
+import com.hypixel.hytale.logger.HytaleLogger;
+import no.sdev.worldwipe.persistence.AtomicFiles;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+
+public final class WorldConfigFiles {
+
+    private static final HytaleLogger LOGGER = HytaleLogger.forEnclosingClass();
+    private static final String EXTENSION = ".yml";
+
+    private final Path directory;
+    private final Map<Path, WorldFile> written = new HashMap<>();
+    private final Set<String> dirty = new HashSet<>();
+    private boolean allDirty;
+
+    public WorldConfigFiles(Path directory) {
+        this.directory = directory;
+    }
+
+    public Path directory() {
+        return directory;
+    }
+
+    public static boolean isWorldFile(Path file) {
+        return file != null && file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(EXTENSION);
+    }
+
+    public synchronized boolean exists() {
+        if (!Files.isDirectory(directory)) {
+            return false;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + EXTENSION)) {
+            return files.iterator().hasNext();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    public synchronized Map<String, WorldWipeConfig.WorldEntry> load() {
+        written.clear();
+        dirty.clear();
+        allDirty = false;
+        Map<String, WorldWipeConfig.WorldEntry> worlds = new LinkedHashMap<>();
+        scan(worlds, null);
+        return worlds;
+    }
+
+    public synchronized Map<String, WorldWipeConfig.WorldEntry> reload() {
+        Map<String, WorldWipeConfig.WorldEntry> changed = new LinkedHashMap<>();
+        Set<Path> seen = new HashSet<>();
+        scan(changed, seen);
+        written.entrySet().removeIf(entry -> {
+            if (seen.contains(entry.getKey())) {
+                return false;
+            }
+            if (entry.getValue().world() != null) {
+                changed.put(entry.getValue().world(), null);
+            }
+            return true;
+        });
+        return changed;
+    }
+
+    public synchronized void markDirty(String worldName) {
+        if (worldName != null && !worldName.isBlank()) {
+            dirty.add(worldName);
+        }
+    }
+
+    public synchronized void markAllDirty() {
+        allDirty = true;
+    }
+
+    public synchronized Map<Path, WorldFile> render(Map<String, WorldWipeConfig.WorldEntry> worlds) {
+        Map<Path, WorldFile> pending = new LinkedHashMap<>();
+        Map<String, WorldWipeConfig.WorldEntry> source = worlds != null ? worlds : Map.of();
+        Set<String> names = allDirty ? source.keySet() : dirty;
+        for (String name : names) {
+            if (name == null || name.isBlank()) {
+                continue;
+            }
+            Path file = fileFor(name);
+            WorldWipeConfig.WorldEntry entry = source.get(name);
+            if (entry == null) {
+                WorldFile removed = written.remove(file);
+                if (removed != null) {
+                    pending.put(file, new WorldFile(removed.world(), null));
+                }
+                continue;
+            }
+            String content = toYaml(name, entry);
+            WorldFile previous = written.get(file);
+            if (previous == null || !content.equals(previous.content())) {
+                WorldFile next = new WorldFile(name, content);
+                written.put(file, next);
+                pending.put(file, next);
+            }
+        }
+        if (allDirty) {
+            Set<Path> live = new HashSet<>();
+            source.keySet().forEach(name -> live.add(fileFor(name)));
+            written.entrySet().removeIf(entry -> {
+                if (entry.getValue().world() == null || live.contains(entry.getKey())) {
+                    return false;
+                }
+                pending.put(entry.getKey(), new WorldFile(entry.getValue().world(), null));
+                return true;
+            });
+        }
+        dirty.clear();
+        allDirty = false;
+        return pending;
+    }
+
+    public int write(Map<Path, WorldFile> pending) throws IOException {
+        int touched = 0;
+        IOException failure = null;
+        for (Map.Entry<Path, WorldFile> entry : pending.entrySet()) {
+            Path file = entry.getKey();
+            WorldFile change = entry.getValue();
+            if (failure == null) {
+                try {
+                    if (change.content() == null) {
+                        Files.deleteIfExists(file);
+                    } else {
+                        AtomicFiles.writeString(file, change.content());
+                    }
+                    touched++;
+                    continue;
+                } catch (IOException e) {
+                    failure = e;
+                }
+            }
+            synchronized (this) {
+                if (change.content() == null) {
+                    written.put(file, new WorldFile(change.world(), ""));
+                } else {
+                    written.remove(file);
+                }
+                markDirty(change.world());
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return touched;
+    }
+
+    private void scan(Map<String, WorldWipeConfig.WorldEntry> worlds, Set<Path> seen) {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + EXTENSION)) {
+            for (Path file : files) {
+                if (seen != null) {
+                    seen.add(file);
+                }
+                String content;
+                try {
+                    content = Files.readString(file, StandardCharsets.UTF_8);
+                } catch (IOException e) {
+                    LOGGER.at(Level.WARNING).withCause(e).log("[WorldWipe] Failed to read %s.", file);
+                    continue;
+                }
+                WorldFile previous = written.get(file);
+                if (previous != null && content.equals(previous.content())) {
+                    continue;
+                }
+                Object data;
+                try {
+                    data = WorldWipeConfig.loadYamlValue(content);
+                } catch (RuntimeException e) {
+                    data = null;
+                }
+                if (!(data instanceof Map<?, ?> map)) {
+                    LOGGER.at(Level.WARNING).log("[WorldWipe] Ignoring unreadable world config %s.", file);
+                    written.put(file, new WorldFile(previous != null ? previous.world() : null, content));
+                    continue;
+                }
+                String name = worldName(map, file);
+                written.put(file, new WorldFile(name, content));
+                worlds.put(name, WorldWipeConfig.parseWorldEntry(map));
+            }
+        } catch (IOException e) {
+            LOGGER.at(Level.WARNING).withCause(e).log("[WorldWipe] Failed to list %s.", directory);
+        }
+    }
+
+    private Path fileFor(String worldName) {
+        StringBuilder name = new StringBuilder();
+        for (byte b : worldName.trim().toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8)) {
+            char c = (char) (b & 0xFF);
+            if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-' || c == '_') {
+                name.append(c);
+            } else {
+                name.append('%').append(String.format(Locale.ROOT, "%02x", b & 0xFF));
+            }
+        }
+        return directory.resolve(name + EXTENSION);
+    }
+
+    private static String toYaml(String worldName, WorldWipeConfig.WorldEntry entry) {
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("world", worldName);
+        root.putAll(WorldWipeConfig.buildWorldMap(entry));
+        return WorldWipeConfig.dumpYaml(root);
+    }
+
+    private static String worldName(Map<?, ?> map, Path file) {
+        Object world = map.get("world");
+        if (world != null && !world.toString().isBlank()) {
+            return world.toString().trim();
+        }
+        String fileName = file.getFileName().toString();
+        return decodeStem(fileName.substring(0, fileName.length() - EXTENSION.length()));
+    }
+
+    private static String decodeStem(String stem) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        for (int i = 0; i < stem.length(); i++) {
+            char c = stem.charAt(i);
+            if (c == '%' && i + 2 < stem.length()) {
+                int high = Character.digit(stem.charAt(i + 1), 16);
+                int low = Character.digit(stem.charAt(i + 2), 16);
+                if (high >= 0 && low >= 0) {
+                    bytes.write((high << 4) | low);
+                    i += 2;
+                    continue;
+                }
+            }
+            int codePoint = stem.codePointAt(i);
+            bytes.writeBytes(new String(Character.toChars(codePoint)).getBytes(StandardCharsets.UTF_8));
+            i += Character.charCount(codePoint) - 1;
+        }
+        return bytes.toString(StandardCharsets.UTF_8);
+    }
+
+    public record WorldFile(String world, String content) {
+    }
+}
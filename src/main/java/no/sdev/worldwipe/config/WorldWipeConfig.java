@@ -2,6 +2,7 @@ package no.sdev.worldwipe.config;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import no.sdev.worldwipe.persistence.AtomicFiles;
 import org.yaml.snakeyaml.DumperOptions;
 import org.yaml.snakeyaml.LoaderOptions;
 import org.yaml.snakeyaml.Yaml;
@@ -10,11 +11,13 @@ import org.yaml.snakeyaml.constructor.SafeConstructor;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 public final class WorldWipeConfig {
@@ -25,6 +28,9 @@ public final class WorldWipeConfig {
     private static final Yaml YAML_LOADER;
     private static final int BANNER_WIDTH = 76;
     private static final String CONFIG_HEADER;
+    private static final List<String> DEFAULT_COUNTDOWN_WARNINGS = List.of("10m", "5m", "1m", "10s");
+    private static final String LAYOUT_PER_WORLD = "PER_WORLD";
+    private static final String RULE_SCHEDULE = "rule";
 
     static {
         YAML_OPTIONS.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK);
@@ -43,6 +49,17 @@ public final class WorldWipeConfig {
     public Boolean offlineTrackingSaveFile;
     public Integer offlineTrackingMaxDays;
     public String offlineTrackingMode;
+    public String offlineTrackingStorage;
+    public Boolean countdownEnabled;
+    public List<String> countdownWarnings;
+    public Boolean returnAfterWipe;
+    public Integer returnWarmupSeconds;
+    public Integer returnBatchSize;
+    public Integer returnBatchIntervalSeconds;
+    public Integer persistenceFlushSeconds;
+    public Integer dashboardPageSize;
+    public String configLayout;
+    public List<WorldRule> worldRules;
     public Map<String, WorldEntry> worlds;
 
     public static WorldWipeConfig loadOrCreate(Path path) {
@@ -114,6 +131,39 @@ public final class WorldWipeConfig {
         if (offlineTrackingMode == null || offlineTrackingMode.isBlank()) {
             offlineTrackingMode = "ALL";
         }
+        if (offlineTrackingStorage == null || offlineTrackingStorage.isBlank()) {
+            offlineTrackingStorage = "HEAP";
+        }
+        if (countdownEnabled == null) {
+            countdownEnabled = true;
+        }
+        if (countdownWarnings == null || countdownWarnings.isEmpty()) {
+            countdownWarnings = DEFAULT_COUNTDOWN_WARNINGS;
+        }
+        if (returnAfterWipe == null) {
+            returnAfterWipe = false;
+        }
+        if (returnWarmupSeconds == null) {
+            returnWarmupSeconds = 10;
+        }
+        if (returnBatchSize == null) {
+            returnBatchSize = 5;
+        }
+        if (returnBatchIntervalSeconds == null) {
+            returnBatchIntervalSeconds = 2;
+        }
+        if (persistenceFlushSeconds == null) {
+            persistenceFlushSeconds = 5;
+        }
+        if (dashboardPageSize == null) {
+            dashboardPageSize = 10;
+        }
+        if (configLayout == null || configLayout.isBlank()) {
+            configLayout = "SINGLE";
+        }
+        if (worldRules == null) {
+            worldRules = new ArrayList<>();
+        }
         if (worlds == null) {
             worlds = new HashMap<>();
         }
@@ -131,6 +181,150 @@ public final class WorldWipeConfig {
             return null;
         }
 
+        return parseYaml(content);
+    }
+
+    public static WorldWipeConfig fromYaml(String content) {
+        WorldWipeConfig config = parseYaml(content);
+        if (config != null) {
+            config.ensureDefaults();
+        }
+        return config;
+    }
+
+    public static Diff diff(WorldWipeConfig before, WorldWipeConfig after) {
+        Map<String, Object> beforeMap = buildYamlMap(before);
+        Map<String, Object> afterMap = buildYamlMap(after);
+
+        Set<String> settings = new LinkedHashSet<>();
+        for (Map.Entry<String, Object> entry : afterMap.entrySet()) {
+            if (!"worlds".equals(entry.getKey()) && !Objects.equals(beforeMap.get(entry.getKey()), entry.getValue())) {
+                settings.add(entry.getKey());
+            }
+        }
+
+        Diff worldsDiff = diffWorldMaps((Map<?, ?>) beforeMap.get("worlds"), (Map<?, ?>) afterMap.get("worlds"));
+        return new Diff(Set.copyOf(settings), worldsDiff.worlds(), worldsDiff.scheduledWorlds());
+    }
+
+    public static Diff mergeEdits(WorldWipeConfig target, WorldWipeConfig base, WorldWipeConfig edited) {
+        Diff diff = diff(base, edited);
+        for (String setting : diff.settings()) {
+            target.copySetting(setting, edited);
+        }
+        for (String name : diff.worlds()) {
+            mergeWorldEntry(target.worlds, name, base.worlds.get(name), edited.worlds.get(name));
+        }
+        return diff;
+    }
+
+    public static void mergeWorldEntry(
+            Map<String, WorldEntry> worlds,
+            String name,
+            WorldEntry before,
+            WorldEntry after
+    ) {
+        if (after == null) {
+            if (before != null) {
+                worlds.remove(name);
+            }
+            return;
+        }
+        WorldEntry current = worlds.computeIfAbsent(name, key -> new WorldEntry());
+        if (before == null) {
+            current.schedule = after.schedule;
+            if (after.regenerateOnWipe != null) {
+                current.regenerateOnWipe = after.regenerateOnWipe;
+            }
+            if (after.lastWipe != null) {
+                current.lastWipe = after.lastWipe;
+            }
+            return;
+        }
+        if (!Objects.equals(scheduleValue(before.schedule), scheduleValue(after.schedule))) {
+            current.schedule = after.schedule;
+        }
+        if (!Objects.equals(before.regenerateOnWipe, after.regenerateOnWipe)) {
+            current.regenerateOnWipe = after.regenerateOnWipe;
+        }
+        if (!Objects.equals(before.lastWipe, after.lastWipe)) {
+            current.lastWipe = after.lastWipe;
+        }
+    }
+
+    private void copySetting(String key, WorldWipeConfig from) {
+        switch (key) {
+            case "schedulingEnabled" -> schedulingEnabled = from.schedulingEnabled;
+            case "regenerateOnWipe" -> regenerateOnWipe = from.regenerateOnWipe;
+            case "offlineTrackingEnabled" -> offlineTrackingEnabled = from.offlineTrackingEnabled;
+            case "offlineTrackingSaveFile" -> offlineTrackingSaveFile = from.offlineTrackingSaveFile;
+            case "offlineTrackingMaxDays" -> offlineTrackingMaxDays = from.offlineTrackingMaxDays;
+            case "offlineTrackingMode" -> offlineTrackingMode = from.offlineTrackingMode;
+            case "offlineTrackingStorage" -> offlineTrackingStorage = from.offlineTrackingStorage;
+            case "countdownEnabled" -> countdownEnabled = from.countdownEnabled;
+            case "countdownWarnings" -> countdownWarnings = from.countdownWarnings;
+            case "returnAfterWipe" -> returnAfterWipe = from.returnAfterWipe;
+            case "returnWarmupSeconds" -> returnWarmupSeconds = from.returnWarmupSeconds;
+            case "returnBatchSize" -> returnBatchSize = from.returnBatchSize;
+            case "returnBatchIntervalSeconds" -> returnBatchIntervalSeconds = from.returnBatchIntervalSeconds;
+            case "persistenceFlushSeconds" -> persistenceFlushSeconds = from.persistenceFlushSeconds;
+            case "dashboardPageSize" -> dashboardPageSize = from.dashboardPageSize;
+            case "configLayout" -> configLayout = from.configLayout;
+            case "protectedWorld" -> protectedWorlds = from.protectedWorlds;
+            case "worldRules" -> worldRules = from.worldRules;
+            default -> {
+            }
+        }
+    }
+
+    public static Diff diffWorlds(Map<String, WorldEntry> before, Map<String, WorldEntry> after) {
+        return diffWorldMaps(buildWorldsMap(before), buildWorldsMap(after));
+    }
+
+    private static Diff diffWorldMaps(Map<?, ?> beforeWorlds, Map<?, ?> afterWorlds) {
+        Set<String> names = new LinkedHashSet<>();
+        beforeWorlds.keySet().forEach(name -> names.add(name.toString()));
+        afterWorlds.keySet().forEach(name -> names.add(name.toString()));
+
+        Set<String> worlds = new LinkedHashSet<>();
+        Set<String> scheduledWorlds = new LinkedHashSet<>();
+        for (String name : names) {
+            Object beforeWorld = beforeWorlds.get(name);
+            Object afterWorld = afterWorlds.get(name);
+            if (Objects.equals(beforeWorld, afterWorld)) {
+                continue;
+            }
+            worlds.add(name);
+            if (beforeWorld == null
+                    || afterWorld == null
+                    || !Objects.equals(((Map<?, ?>) beforeWorld).get("schedule"), ((Map<?, ?>) afterWorld).get("schedule"))) {
+                scheduledWorlds.add(name);
+            }
+        }
+        return new Diff(Set.of(), Set.copyOf(worlds), Set.copyOf(scheduledWorlds));
+    }
+
+    public static String toYaml(WorldWipeConfig config) {
+        Map<String, Object> root = buildYamlMap(config);
+        if (config.usesWorldFiles()) {
+            root.remove("worlds");
+        }
+        return CONFIG_HEADER + YAML_DUMPER.dump(root);
+    }
+
+    public boolean usesWorldFiles() {
+        return LAYOUT_PER_WORLD.equalsIgnoreCase(configLayout != null ? configLayout.trim() : null);
+    }
+
+    static String dumpYaml(Map<String, Object> value) {
+        return YAML_DUMPER.dump(value);
+    }
+
+    static Object loadYamlValue(String content) {
+        return YAML_LOADER.load(content);
+    }
+
+    private static WorldWipeConfig parseYaml(String content) {
         if (content == null || content.isBlank()) {
             return null;
         }
@@ -169,7 +363,7 @@ public final class WorldWipeConfig {
         body = body.stripLeading();
 
         try {
-            Files.writeString(path, CONFIG_HEADER + body);
+            AtomicFiles.writeString(path, CONFIG_HEADER + body);
         } catch (IOException ignored) {
         }
     }
@@ -195,9 +389,7 @@ public final class WorldWipeConfig {
         if (path == null || config == null) {
             return;
         }
-        Files.createDirectories(path.getParent());
-        String yaml = YAML_DUMPER.dump(buildYamlMap(config));
-        Files.writeString(path, CONFIG_HEADER + yaml);
+        AtomicFiles.writeString(path, toYaml(config));
     }
 
     private static Map<String, Object> buildYamlMap(WorldWipeConfig config) {
@@ -220,6 +412,31 @@ public final class WorldWipeConfig {
                 "offlineTrackingMode",
                 config.offlineTrackingMode != null ? config.offlineTrackingMode : "ALL"
         );
+        root.put(
+                "offlineTrackingStorage",
+                config.offlineTrackingStorage != null ? config.offlineTrackingStorage : "HEAP"
+        );
+        root.put(
+                "countdownEnabled",
+                config.countdownEnabled != null ? config.countdownEnabled : Boolean.TRUE
+        );
+        root.put(
+                "countdownWarnings",
+                config.countdownWarnings != null ? config.countdownWarnings : DEFAULT_COUNTDOWN_WARNINGS
+        );
+        root.put("returnAfterWipe", config.returnAfterWipe != null ? config.returnAfterWipe : Boolean.FALSE);
+        root.put("returnWarmupSeconds", config.returnWarmupSeconds != null ? config.returnWarmupSeconds : 10);
+        root.put("returnBatchSize", config.returnBatchSize != null ? config.returnBatchSize : 5);
+        root.put(
+                "returnBatchIntervalSeconds",
+                config.returnBatchIntervalSeconds != null ? config.returnBatchIntervalSeconds : 2
+        );
+        root.put(
+                "persistenceFlushSeconds",
+                config.persistenceFlushSeconds != null ? config.persistenceFlushSeconds : 5
+        );
+        root.put("dashboardPageSize", config.dashboardPageSize != null ? config.dashboardPageSize : 10);
+        root.put("configLayout", config.configLayout != null ? config.configLayout : "SINGLE");
         List<String> protectedWorlds = config.protectedWorlds;
         if (protectedWorlds == null || protectedWorlds.isEmpty()) {
             root.put("protectedWorld", "default");
@@ -229,29 +446,62 @@ public final class WorldWipeConfig {
             root.put("protectedWorld", protectedWorlds);
         }
 
-        Map<String, Object> worldsMap = new LinkedHashMap<>();
-        if (config.worlds != null) {
-            for (Map.Entry<String, WorldEntry> entry : config.worlds.entrySet()) {
-                if (entry.getKey() == null || entry.getKey().isBlank()) {
+        List<Map<String, Object>> rules = new ArrayList<>();
+        if (config.worldRules != null) {
+            for (WorldRule rule : config.worldRules) {
+                if (rule == null || rule.match == null || rule.match.isBlank()) {
                     continue;
                 }
-                WorldEntry worldEntry = entry.getValue() != null ? entry.getValue() : new WorldEntry();
-                Map<String, Object> worldValue = new LinkedHashMap<>();
-                worldValue.put("schedule", buildScheduleMap(worldEntry.schedule));
-                if (worldEntry.regenerateOnWipe != null) {
-                    worldValue.put("regenerateOnWipe", worldEntry.regenerateOnWipe);
+                Map<String, Object> ruleValue = new LinkedHashMap<>();
+                ruleValue.put("match", rule.match);
+                if (rule.protectedWorld != null) {
+                    ruleValue.put("protected", rule.protectedWorld);
                 }
-                if (worldEntry.lastWipe != null && !worldEntry.lastWipe.isBlank()) {
-                    worldValue.put("lastWipe", worldEntry.lastWipe);
+                if (rule.schedule != null) {
+                    ruleValue.put("schedule", buildScheduleMap(rule.schedule));
                 }
-                worldsMap.put(entry.getKey(), worldValue);
+                if (rule.regenerateOnWipe != null) {
+                    ruleValue.put("regenerateOnWipe", rule.regenerateOnWipe);
+                }
+                rules.add(ruleValue);
             }
         }
-        root.put("worlds", worldsMap);
+        root.put("worldRules", rules);
+        root.put("worlds", buildWorldsMap(config.worlds));
 
         return root;
     }
 
+    private static Map<String, Object> buildWorldsMap(Map<String, WorldEntry> worlds) {
+        Map<String, Object> worldsMap = new LinkedHashMap<>();
+        if (worlds != null) {
+            for (Map.Entry<String, WorldEntry> entry : worlds.entrySet()) {
+                if (entry.getKey() == null || entry.getKey().isBlank()) {
+                    continue;
+                }
+                worldsMap.put(entry.getKey(), buildWorldMap(entry.getValue()));
+            }
+        }
+        return worldsMap;
+    }
+
+    static Map<String, Object> buildWorldMap(WorldEntry entry) {
+        WorldEntry worldEntry = entry != null ? entry : new WorldEntry();
+        Map<String, Object> worldValue = new LinkedHashMap<>();
+        worldValue.put("schedule", scheduleValue(worldEntry.schedule));
+        if (worldEntry.regenerateOnWipe != null) {
+            worldValue.put("regenerateOnWipe", worldEntry.regenerateOnWipe);
+        }
+        if (worldEntry.lastWipe != null && !worldEntry.lastWipe.isBlank()) {
+            worldValue.put("lastWipe", worldEntry.lastWipe);
+        }
+        return worldValue;
+    }
+
+    private static Object scheduleValue(Schedule schedule) {
+        return schedule != null ? buildScheduleMap(schedule) : RULE_SCHEDULE;
+    }
+
     private static Map<String, Object> buildScheduleMap(Schedule schedule) {
         Schedule resolved = schedule != null ? schedule : new Schedule();
         Map<String, Object> scheduleMap = new LinkedHashMap<>();
@@ -271,12 +521,25 @@ public final class WorldWipeConfig {
         public String zone = "system";
     }
 
+    public static final class WorldRule {
+        public String match;
+        public Boolean protectedWorld;
+        public Schedule schedule;
+        public Boolean regenerateOnWipe;
+    }
+
     public static final class WorldEntry {
         public Schedule schedule = new Schedule();
         public Boolean regenerateOnWipe;
         public String lastWipe;
     }
 
+    public record Diff(Set<String> settings, Set<String> worlds, Set<String> scheduledWorlds) {
+        public boolean isEmpty() {
+            return settings.isEmpty() && worlds.isEmpty();
+        }
+    }
+
     public record EffectiveConfig(
             List<String> protectedWorlds,
             boolean schedulingEnabled,
@@ -285,6 +548,16 @@ public final class WorldWipeConfig {
             boolean offlineTrackingSaveFile,
             int offlineTrackingMaxDays,
             String offlineTrackingMode,
+            String offlineTrackingStorage,
+            boolean countdownEnabled,
+            List<String> countdownWarnings,
+            boolean returnAfterWipe,
+            int returnWarmupSeconds,
+            int returnBatchSize,
+            int returnBatchIntervalSeconds,
+            int persistenceFlushSeconds,
+            int dashboardPageSize,
+            List<WorldRule> worldRules,
             Map<String, WorldEntry> worlds
     ) {
     }
@@ -339,6 +612,15 @@ public final class WorldWipeConfig {
         boolean offlineSaveFile = offlineTrackingSaveFile == null || offlineTrackingSaveFile;
         int maxDays = offlineTrackingMaxDays != null ? offlineTrackingMaxDays : 90;
         String mode = offlineTrackingMode != null ? offlineTrackingMode : "ALL";
+        String storage = offlineTrackingStorage != null ? offlineTrackingStorage : "HEAP";
+        boolean countdown = countdownEnabled == null || countdownEnabled;
+        List<String> warnings = countdownWarnings != null ? countdownWarnings : DEFAULT_COUNTDOWN_WARNINGS;
+        boolean returnEnabled = returnAfterWipe != null && returnAfterWipe;
+        int warmup = returnWarmupSeconds != null ? returnWarmupSeconds : 10;
+        int batchSize = returnBatchSize != null ? returnBatchSize : 5;
+        int batchInterval = returnBatchIntervalSeconds != null ? returnBatchIntervalSeconds : 2;
+        int flushSeconds = persistenceFlushSeconds != null ? persistenceFlushSeconds : 5;
+        int pageSize = dashboardPageSize != null ? dashboardPageSize : 10;
         return new EffectiveConfig(
                 resolvedProtected,
                 enabled,
@@ -347,6 +629,16 @@ public final class WorldWipeConfig {
                 offlineSaveFile,
                 maxDays,
                 mode,
+                storage,
+                countdown,
+                warnings,
+                returnEnabled,
+                warmup,
+                batchSize,
+                batchInterval,
+                flushSeconds,
+                pageSize,
+                worldRules != null ? List.copyOf(worldRules) : List.of(),
                 resolvedWorlds
         );
     }
@@ -371,6 +663,43 @@ public final class WorldWipeConfig {
         if (trackingMode != null) {
             config.offlineTrackingMode = trackingMode.toString();
         }
+        Object trackingStorage = root.get("offlineTrackingStorage");
+        if (trackingStorage != null) {
+            config.offlineTrackingStorage = trackingStorage.toString();
+        }
+        config.countdownEnabled = parseBoolean(root.get("countdownEnabled"), null);
+        config.countdownWarnings = parseStringList(root.get("countdownWarnings"));
+        config.returnAfterWipe = parseBoolean(root.get("returnAfterWipe"), null);
+        config.returnWarmupSeconds = parseInt(root.get("returnWarmupSeconds"));
+        config.returnBatchSize = parseInt(root.get("returnBatchSize"));
+        config.returnBatchIntervalSeconds = parseInt(root.get("returnBatchIntervalSeconds"));
+        config.persistenceFlushSeconds = parseInt(root.get("persistenceFlushSeconds"));
+        config.dashboardPageSize = parseInt(root.get("dashboardPageSize"));
+        Object layout = root.get("configLayout");
+        if (layout != null) {
+            config.configLayout = layout.toString();
+        }
+
+        Object rulesValue = root.get("worldRules");
+        if (rulesValue instanceof List<?> rawRules) {
+            List<WorldRule> rules = new ArrayList<>();
+            for (Object rawRule : rawRules) {
+                if (!(rawRule instanceof Map<?, ?> map) || map.get("match") == null) {
+                    continue;
+                }
+                String match = map.get("match").toString().trim();
+                if (match.isBlank()) {
+                    continue;
+                }
+                WorldRule rule = new WorldRule();
+                rule.match = match;
+                rule.protectedWorld = parseBooleanValue(map.get("protected"));
+                rule.schedule = map.get("schedule") != null ? parseSchedule(map.get("schedule")) : null;
+                rule.regenerateOnWipe = parseBooleanValue(map.get("regenerateOnWipe"));
+                rules.add(rule);
+            }
+            config.worldRules = rules;
+        }
 
         Object worldsValue = root.get("worlds");
         if (worldsValue instanceof Map) {
@@ -394,14 +723,16 @@ public final class WorldWipeConfig {
         return config;
     }
 
-    private static WorldEntry parseWorldEntry(Object value) {
+    static WorldEntry parseWorldEntry(Object value) {
         WorldEntry entry = new WorldEntry();
         if (!(value instanceof Map)) {
             return entry;
         }
         Map<?, ?> map = (Map<?, ?>) value;
         Object scheduleValue = map.get("schedule");
-        entry.schedule = parseSchedule(scheduleValue);
+        entry.schedule = scheduleValue instanceof String text && RULE_SCHEDULE.equalsIgnoreCase(text.trim())
+                ? null
+                : parseSchedule(scheduleValue);
         entry.regenerateOnWipe = parseBooleanValue(map.get("regenerateOnWipe"));
         Object lastWipe = map.get("lastWipe");
         if (lastWipe != null) {
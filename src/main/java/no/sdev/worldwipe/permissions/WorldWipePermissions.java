@@ -2,6 +2,7 @@ package no.sdev.worldwipe.permissions;
 
 import com.hypixel.hytale.server.core.permissions.PermissionHolder;
 import com.hypixel.hytale.server.core.permissions.PermissionsModule;
+import no.sdev.worldwipe.world.WorldKey;
 
 import java.util.Locale;
 import java.util.UUID;
@@ -68,8 +69,8 @@ public final class WorldWipePermissions {
     }
 
     public static String scheduleWorld(String worldName) {
-        String sanitized = worldName == null ? "" : worldName.trim().toLowerCase(Locale.ROOT);
-        return SCHEDULE_WORLD_PREFIX + sanitized;
+        WorldKey key = WorldKey.of(worldName);
+        return SCHEDULE_WORLD_PREFIX + (key != null ? key.value() : "");
     }
 
     public static boolean hasCommand(PermissionHolder holder, String commandName) {
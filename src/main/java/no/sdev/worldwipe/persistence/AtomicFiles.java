@@ -0,0 +1,124 @@
+package no.sdev.worldwipe.persistence;
+
+import com.hypixel.hytale.logger.HytaleLogger;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.logging.Level;
+import java.util.zip.CRC32;
+
+public final class AtomicFiles {
+
+    private static final HytaleLogger LOGGER = HytaleLogger.forEnclosingClass();
+    private static final String CHECKSUM_TRAILER = "\n#crc32:";
+
+    private AtomicFiles() {
+    }
+
+    public static Path tempFor(Path target) {
+        return target.resolveSibling(target.getFileName() + ".tmp");
+    }
+
+    public static Path backupFor(Path target) {
+        return target.resolveSibling(target.getFileName() + ".bak");
+    }
+
+    public static void writeString(Path target, String content) throws IOException {
+        write(target, content.getBytes(StandardCharsets.UTF_8), false);
+    }
+
+    public static void writeChecksummed(Path target, String content) throws IOException {
+        String trailer = CHECKSUM_TRAILER + formatChecksum(checksum(content)) + "\n";
+        write(target, (content + trailer).getBytes(StandardCharsets.UTF_8), true);
+    }
+
+    public static String readChecksummed(Path target) throws IOException {
+        for (Path candidate : new Path[] {target, backupFor(target)}) {
+            if (Files.notExists(candidate)) {
+                continue;
+            }
+            String raw = Files.readString(candidate);
+            int trailer = raw.lastIndexOf(CHECKSUM_TRAILER);
+            if (trailer < 0) {
+                return raw;
+            }
+            String content = raw.substring(0, trailer);
+            String expected = raw.substring(trailer + CHECKSUM_TRAILER.length()).trim();
+            if (expected.equalsIgnoreCase(formatChecksum(checksum(content)))) {
+                if (candidate != target) {
+                    LOGGER.at(Level.WARNING).log("[WorldWipe] Recovered %s from %s.", target, candidate);
+                }
+                return content;
+            }
+            LOGGER.at(Level.WARNING).log("[WorldWipe] Checksum mismatch in %s; ignoring it.", candidate);
+        }
+        return null;
+    }
+
+    public static void commit(Path temp, Path target, boolean keepBackup) throws IOException {
+        if (keepBackup && Files.exists(target)) {
+            move(target, backupFor(target));
+        }
+        move(temp, target);
+        syncDirectory(target.toAbsolutePath().getParent());
+    }
+
+    public static void rotate(Path source, Path target) throws IOException {
+        move(source, target);
+        syncDirectory(target.toAbsolutePath().getParent());
+    }
+
+    private static void write(Path target, byte[] content, boolean keepBackup) throws IOException {
+        Files.createDirectories(target.toAbsolutePath().getParent());
+        Path temp = tempFor(target);
+        try (FileChannel channel = FileChannel.open(
+                temp,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING
+        )) {
+            ByteBuffer buffer = ByteBuffer.wrap(content);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        commit(temp, target, keepBackup);
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void syncDirectory(Path directory) {
+        if (directory == null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException ignored) {
+        }
+    }
+
+    private static long checksum(String content) {
+        CRC32 crc = new CRC32();
+        crc.update(content.getBytes(StandardCharsets.UTF_8));
+        return crc.getValue();
+    }
+
+    private static String formatChecksum(long checksum) {
+        return String.format(Locale.ROOT, "%08x", checksum);
+    }
+}
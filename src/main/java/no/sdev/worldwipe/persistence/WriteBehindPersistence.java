@@ -0,0 +1,152 @@
+package no.sdev.worldwipe.persistence;
+
+import com.hypixel.hytale.logger.HytaleLogger;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+
+public final class WriteBehindPersistence {
+
+    private static final HytaleLogger LOGGER = HytaleLogger.forEnclosingClass();
+
+    public interface StateWriter {
+        void write() throws IOException;
+    }
+
+    public record Metrics(
+            int pendingDirty,
+            long flushes,
+            long writes,
+            long coalesced,
+            long failures,
+            long lastFlushMicros,
+            long maxFlushMicros,
+            long averageFlushMicros
+    ) {
+    }
+
+    private static final class Target {
+        private final StateWriter writer;
+        private final AtomicBoolean dirty = new AtomicBoolean(false);
+
+        private Target(StateWriter writer) {
+            this.writer = writer;
+        }
+    }
+
+    private final Map<String, Target> targets = new ConcurrentHashMap<>();
+    private final AtomicLong flushes = new AtomicLong();
+    private final AtomicLong writes = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong lastFlushNanos = new AtomicLong();
+    private final AtomicLong maxFlushNanos = new AtomicLong();
+    private final AtomicLong totalFlushNanos = new AtomicLong();
+    private ScheduledFuture<?> flushTask;
+
+    public void register(String name, StateWriter writer) {
+        targets.put(name, new Target(writer));
+    }
+
+    public void markDirty(String name) {
+        Target target = targets.get(name);
+        if (target == null) {
+            throw new IllegalArgumentException("Unknown state: " + name);
+        }
+        if (!target.dirty.compareAndSet(false, true)) {
+            coalesced.incrementAndGet();
+        }
+    }
+
+    public int pendingDirty() {
+        int pending = 0;
+        for (Target target : targets.values()) {
+            if (target.dirty.get()) {
+                pending++;
+            }
+        }
+        return pending;
+    }
+
+    public synchronized void start(ScheduledExecutorService scheduler, Duration interval) {
+        stop();
+        long millis = Math.max(100L, interval.toMillis());
+        flushTask = scheduler.scheduleWithFixedDelay(this::flush, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void stop() {
+        if (flushTask != null) {
+            flushTask.cancel(false);
+            flushTask = null;
+        }
+    }
+
+    public synchronized void flush() {
+        long started = System.nanoTime();
+        int written = 0;
+        for (Map.Entry<String, Target> entry : targets.entrySet()) {
+            if (write(entry.getKey(), entry.getValue())) {
+                written++;
+            }
+        }
+        if (written > 0) {
+            recordFlush(System.nanoTime() - started);
+        }
+    }
+
+    public synchronized void flush(String name) {
+        Target target = targets.get(name);
+        if (target == null) {
+            return;
+        }
+        long started = System.nanoTime();
+        if (write(name, target)) {
+            recordFlush(System.nanoTime() - started);
+        }
+    }
+
+    public Metrics metrics() {
+        long count = flushes.get();
+        return new Metrics(
+                pendingDirty(),
+                count,
+                writes.get(),
+                coalesced.get(),
+                failures.get(),
+                TimeUnit.NANOSECONDS.toMicros(lastFlushNanos.get()),
+                TimeUnit.NANOSECONDS.toMicros(maxFlushNanos.get()),
+                count == 0 ? 0L : TimeUnit.NANOSECONDS.toMicros(totalFlushNanos.get() / count)
+        );
+    }
+
+    private boolean write(String name, Target target) {
+        if (!target.dirty.getAndSet(false)) {
+            return false;
+        }
+        try {
+            target.writer.write();
+            writes.incrementAndGet();
+            return true;
+        } catch (Exception e) {
+            target.dirty.set(true);
+            failures.incrementAndGet();
+            LOGGER.at(Level.WARNING).withCause(e).log("[WorldWipe] Failed to write %s state.", name);
+            return false;
+        }
+    }
+
+    private void recordFlush(long nanos) {
+        flushes.incrementAndGet();
+        lastFlushNanos.set(nanos);
+        totalFlushNanos.addAndGet(nanos);
+        maxFlushNanos.accumulateAndGet(nanos, Math::max);
+    }
+}
@@ -0,0 +1,299 @@
+package no.sdev.worldwipe.tracking;
+
+import com.hypixel.hytale.logger.HytaleLogger;
+import no.sdev.worldwipe.persistence.AtomicFiles;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Level;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+public final class LastSeenJournal implements Closeable {
+
+    private static final HytaleLogger LOGGER = HytaleLogger.forEnclosingClass();
+
+    public static final int RECORD_BYTES = 24;
+    static final int SORTED_SNAPSHOT_MAGIC = 0x574C5332;
+    static final int SORTED_HEADER_BYTES = 8;
+    private static final int SNAPSHOT_MAGIC = 0x574C5331;
+
+    public interface RecordConsumer {
+        void accept(long mostSignificant, long leastSignificant, long value);
+    }
+
+    public interface RecordSource {
+        void forEach(RecordConsumer consumer);
+    }
+
+    private final Path snapshotPath;
+    private final Path journalPath;
+    private final Path previousJournalPath;
+    private final ByteBuffer appendBuffer = ByteBuffer.allocate(RECORD_BYTES * 2048);
+    private FileChannel journalChannel;
+    private long journalRecords;
+
+    public LastSeenJournal(Path snapshotPath, Path journalPath) {
+        this.snapshotPath = snapshotPath;
+        this.journalPath = journalPath;
+        this.previousJournalPath = journalPath.resolveSibling(journalPath.getFileName() + ".prev");
+    }
+
+    public synchronized boolean exists() {
+        return Files.exists(snapshotPath) || Files.exists(journalPath);
+    }
+
+    public synchronized long journalRecords() {
+        return journalRecords;
+    }
+
+    Path snapshotPath() {
+        return snapshotPath;
+    }
+
+    synchronized Path readableSnapshot() throws IOException {
+        for (Path candidate : new Path[] {snapshotPath, AtomicFiles.backupFor(snapshotPath)}) {
+            if (Files.notExists(candidate)) {
+                continue;
+            }
+            if (verifySnapshot(candidate)) {
+                if (candidate != snapshotPath) {
+                    LOGGER.at(Level.WARNING).log("[WorldWipe] Recovered %s from %s.", snapshotPath, candidate);
+                }
+                return candidate;
+            }
+            LOGGER.at(Level.WARNING).log("[WorldWipe] Checksum mismatch in %s; ignoring it.", candidate);
+        }
+        return null;
+    }
+
+    static boolean isSorted(Path snapshot) throws IOException {
+        return snapshot != null && readMagic(snapshot) == SORTED_SNAPSHOT_MAGIC;
+    }
+
+    public synchronized void load(RecordConsumer consumer) throws IOException {
+        Path snapshot = readableSnapshot();
+        loadSnapshot(snapshot, consumer);
+        loadJournalsAfter(snapshot, consumer);
+    }
+
+    synchronized void loadSnapshot(Path snapshot, RecordConsumer consumer) throws IOException {
+        if (snapshot == null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+            int magic = readMagic(channel);
+            if (magic == SORTED_SNAPSHOT_MAGIC) {
+                channel.position(SORTED_HEADER_BYTES);
+                readRecords(channel, consumer);
+            } else if (magic == SNAPSHOT_MAGIC) {
+                readRecords(channel, consumer);
+            } else {
+                throw new IOException("Unrecognised last-seen snapshot: " + snapshot);
+            }
+        }
+    }
+
+    synchronized void loadJournalsAfter(Path snapshot, RecordConsumer consumer) throws IOException {
+        if (!snapshotPath.equals(snapshot) && Files.exists(previousJournalPath)) {
+            long replayed;
+            try (FileChannel channel = FileChannel.open(previousJournalPath, StandardOpenOption.READ)) {
+                replayed = readRecords(channel, consumer);
+            }
+            LOGGER.at(Level.WARNING).log("[WorldWipe] Replayed %s records from %s.", replayed, previousJournalPath);
+        }
+        loadJournal(consumer);
+    }
+
+    synchronized void loadJournal(RecordConsumer consumer) throws IOException {
+        flush();
+        journalRecords = 0L;
+        if (Files.exists(journalPath)) {
+            try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.READ)) {
+                journalRecords = readRecords(channel, consumer);
+            }
+            long validBytes = journalRecords * RECORD_BYTES;
+            if (Files.size(journalPath) != validBytes) {
+                openJournal().truncate(validBytes);
+            }
+        }
+    }
+
+    public synchronized void append(long mostSignificant, long leastSignificant, long value) throws IOException {
+        if (appendBuffer.remaining() < RECORD_BYTES) {
+            flush();
+        }
+        appendBuffer.putLong(mostSignificant).putLong(leastSignificant).putLong(value);
+        journalRecords++;
+    }
+
+    public synchronized int pendingRecords() {
+        return appendBuffer.position() / RECORD_BYTES;
+    }
+
+    public synchronized void flush() throws IOException {
+        if (appendBuffer.position() == 0) {
+            return;
+        }
+        FileChannel channel = openJournal();
+        appendBuffer.flip();
+        while (appendBuffer.hasRemaining()) {
+            channel.write(appendBuffer);
+        }
+        appendBuffer.clear();
+        channel.force(false);
+    }
+
+    synchronized void compact(RecordSource source) throws IOException {
+        Files.createDirectories(snapshotPath.getParent());
+        Path temp = AtomicFiles.tempFor(snapshotPath);
+        try (FileChannel channel = FileChannel.open(
+                temp,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING
+        )) {
+            BufferedOutputStream buffered = new BufferedOutputStream(Channels.newOutputStream(channel), 64 * 1024);
+            buffered.write(new byte[SORTED_HEADER_BYTES]);
+            CRC32 crc = new CRC32();
+            DataOutputStream out = new DataOutputStream(new CheckedOutputStream(buffered, crc));
+            IOException[] failure = new IOException[1];
+            source.forEach((mostSignificant, leastSignificant, value) -> {
+                if (failure[0] != null) {
+                    return;
+                }
+                try {
+                    out.writeLong(mostSignificant);
+                    out.writeLong(leastSignificant);
+                    out.writeLong(value);
+                } catch (IOException e) {
+                    failure[0] = e;
+                }
+            });
+            if (failure[0] != null) {
+                throw failure[0];
+            }
+            out.flush();
+            ByteBuffer header = ByteBuffer.allocate(SORTED_HEADER_BYTES);
+            header.putInt(SORTED_SNAPSHOT_MAGIC).putInt((int) crc.getValue()).flip();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+            channel.force(true);
+        }
+        AtomicFiles.commit(temp, snapshotPath, true);
+        appendBuffer.clear();
+        rotateJournal();
+        journalRecords = 0L;
+    }
+
+    private void rotateJournal() throws IOException {
+        if (journalChannel != null) {
+            journalChannel.close();
+            journalChannel = null;
+        }
+        if (Files.exists(journalPath)) {
+            AtomicFiles.rotate(journalPath, previousJournalPath);
+        } else {
+            Files.deleteIfExists(previousJournalPath);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        flush();
+        if (journalChannel != null) {
+            journalChannel.close();
+            journalChannel = null;
+        }
+    }
+
+    private FileChannel openJournal() throws IOException {
+        if (journalChannel == null || !journalChannel.isOpen()) {
+            Files.createDirectories(journalPath.getParent());
+            journalChannel = FileChannel.open(
+                    journalPath,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND
+            );
+        }
+        return journalChannel;
+    }
+
+    private static boolean verifySnapshot(Path snapshot) throws IOException {
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(SORTED_HEADER_BYTES);
+            readFully(channel, header);
+            header.flip();
+            if (header.remaining() < Integer.BYTES) {
+                return false;
+            }
+            int magic = header.getInt();
+            if (magic == SNAPSHOT_MAGIC) {
+                return true;
+            }
+            if (magic != SORTED_SNAPSHOT_MAGIC || header.remaining() < Integer.BYTES) {
+                return false;
+            }
+            int expected = header.getInt();
+            if ((channel.size() - SORTED_HEADER_BYTES) % RECORD_BYTES != 0) {
+                return false;
+            }
+            CRC32 crc = new CRC32();
+            ByteBuffer buffer = ByteBuffer.allocate(RECORD_BYTES * 4096);
+            while (channel.read(buffer) > 0) {
+                buffer.flip();
+                crc.update(buffer);
+                buffer.clear();
+            }
+            return (int) crc.getValue() == expected;
+        }
+    }
+
+    private static int readMagic(Path snapshot) throws IOException {
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+            return readMagic(channel);
+        }
+    }
+
+    private static int readMagic(FileChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(Integer.BYTES);
+        readFully(channel, header);
+        header.flip();
+        return header.remaining() == Integer.BYTES ? header.getInt() : 0;
+    }
+
+    private static long readRecords(FileChannel channel, RecordConsumer consumer) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_BYTES * 4096);
+        long records = 0L;
+        while (channel.read(buffer) > 0 || buffer.position() > 0) {
+            buffer.flip();
+            if (buffer.remaining() < RECORD_BYTES) {
+                break;
+            }
+            while (buffer.remaining() >= RECORD_BYTES) {
+                consumer.accept(buffer.getLong(), buffer.getLong(), buffer.getLong());
+                records++;
+            }
+            buffer.compact();
+        }
+        return records;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                return;
+            }
+        }
+    }
+}
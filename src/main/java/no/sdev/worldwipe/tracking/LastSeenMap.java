@@ -0,0 +1,258 @@
+package no.sdev.worldwipe.tracking;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.function.LongPredicate;
+
+public final class LastSeenMap {
+
+    public static final long MISSING = Long.MIN_VALUE;
+
+    private static final int STRIPE_BITS = 6;
+    private static final int STRIPE_COUNT = 1 << STRIPE_BITS;
+    private static final int INITIAL_STRIPE_CAPACITY = 64;
+    private static final float MAX_LOAD = 0.75f;
+
+    private final Stripe[] stripes = new Stripe[STRIPE_COUNT];
+
+    private final int initialStripeCapacity;
+
+    public LastSeenMap() {
+        this(INITIAL_STRIPE_CAPACITY);
+    }
+
+    public LastSeenMap(int initialStripeCapacity) {
+        if (Integer.bitCount(initialStripeCapacity) != 1 || initialStripeCapacity < 2) {
+            throw new IllegalArgumentException("initialStripeCapacity must be a power of two");
+        }
+        this.initialStripeCapacity = initialStripeCapacity;
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new Stripe(initialStripeCapacity);
+        }
+    }
+
+    public long get(UUID key) {
+        return get(key.getMostSignificantBits(), key.getLeastSignificantBits());
+    }
+
+    public long get(long mostSignificant, long leastSignificant) {
+        long hash = hash(mostSignificant, leastSignificant);
+        Stripe stripe = stripeFor(hash);
+        synchronized (stripe) {
+            return stripe.get(mostSignificant, leastSignificant, hash);
+        }
+    }
+
+    public long put(UUID key, long value) {
+        return put(key.getMostSignificantBits(), key.getLeastSignificantBits(), value);
+    }
+
+    public long put(long mostSignificant, long leastSignificant, long value) {
+        if (value == MISSING) {
+            throw new IllegalArgumentException("value cannot be MISSING");
+        }
+        long hash = hash(mostSignificant, leastSignificant);
+        Stripe stripe = stripeFor(hash);
+        synchronized (stripe) {
+            return stripe.put(mostSignificant, leastSignificant, value, hash);
+        }
+    }
+
+    public boolean remove(UUID key) {
+        return remove(key.getMostSignificantBits(), key.getLeastSignificantBits());
+    }
+
+    public boolean remove(long mostSignificant, long leastSignificant) {
+        long hash = hash(mostSignificant, leastSignificant);
+        Stripe stripe = stripeFor(hash);
+        synchronized (stripe) {
+            return stripe.remove(mostSignificant, leastSignificant, hash);
+        }
+    }
+
+    public boolean remove(long mostSignificant, long leastSignificant, long expectedValue) {
+        return remove(mostSignificant, leastSignificant, value -> value == expectedValue);
+    }
+
+    public boolean remove(long mostSignificant, long leastSignificant, LongPredicate valuePredicate) {
+        long hash = hash(mostSignificant, leastSignificant);
+        Stripe stripe = stripeFor(hash);
+        synchronized (stripe) {
+            long value = stripe.get(mostSignificant, leastSignificant, hash);
+            return value != MISSING
+                    && valuePredicate.test(value)
+                    && stripe.remove(mostSignificant, leastSignificant, hash);
+        }
+    }
+
+    public int removeIf(LongPredicate valuePredicate) {
+        int removed = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                removed += stripe.removeIf(valuePredicate);
+            }
+        }
+        return removed;
+    }
+
+    public void forEach(LastSeenJournal.RecordConsumer consumer) {
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.forEach(consumer);
+            }
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size;
+            }
+        }
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public void clear() {
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.reset(initialStripeCapacity);
+            }
+        }
+    }
+
+    private Stripe stripeFor(long hash) {
+        return stripes[(int) (hash >>> (Long.SIZE - STRIPE_BITS))];
+    }
+
+    private static long hash(long mostSignificant, long leastSignificant) {
+        long h = mostSignificant * 0x9E3779B97F4A7C15L ^ leastSignificant;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static final class Stripe {
+        private long[] mostSignificant;
+        private long[] leastSignificant;
+        private long[] values;
+        private int mask;
+        private int size;
+        private int resizeAt;
+
+        private Stripe(int capacity) {
+            reset(capacity);
+        }
+
+        private void reset(int capacity) {
+            mostSignificant = new long[capacity];
+            leastSignificant = new long[capacity];
+            values = new long[capacity];
+            Arrays.fill(values, MISSING);
+            mask = capacity - 1;
+            size = 0;
+            resizeAt = (int) (capacity * MAX_LOAD);
+        }
+
+        private long get(long msb, long lsb, long hash) {
+            int slot = (int) hash & mask;
+            while (values[slot] != MISSING) {
+                if (mostSignificant[slot] == msb && leastSignificant[slot] == lsb) {
+                    return values[slot];
+                }
+                slot = (slot + 1) & mask;
+            }
+            return MISSING;
+        }
+
+        private long put(long msb, long lsb, long value, long hash) {
+            int slot = (int) hash & mask;
+            while (values[slot] != MISSING) {
+                if (mostSignificant[slot] == msb && leastSignificant[slot] == lsb) {
+                    long previous = values[slot];
+                    values[slot] = value;
+                    return previous;
+                }
+                slot = (slot + 1) & mask;
+            }
+            mostSignificant[slot] = msb;
+            leastSignificant[slot] = lsb;
+            values[slot] = value;
+            if (++size >= resizeAt) {
+                grow();
+            }
+            return MISSING;
+        }
+
+        private boolean remove(long msb, long lsb, long hash) {
+            int slot = (int) hash & mask;
+            while (values[slot] != MISSING) {
+                if (mostSignificant[slot] == msb && leastSignificant[slot] == lsb) {
+                    deleteSlot(slot);
+                    return true;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return false;
+        }
+
+        private int removeIf(LongPredicate valuePredicate) {
+            int removed = 0;
+            int slot = 0;
+            while (slot < values.length) {
+                long value = values[slot];
+                if (value != MISSING && valuePredicate.test(value)) {
+                    deleteSlot(slot);
+                    removed++;
+                    continue;
+                }
+                slot++;
+            }
+            return removed;
+        }
+
+        private void forEach(LastSeenJournal.RecordConsumer consumer) {
+            for (int slot = 0; slot < values.length; slot++) {
+                if (values[slot] != MISSING) {
+                    consumer.accept(mostSignificant[slot], leastSignificant[slot], values[slot]);
+                }
+            }
+        }
+
+        private void deleteSlot(int slot) {
+            int gap = slot;
+            int next = (gap + 1) & mask;
+            while (values[next] != MISSING) {
+                int home = (int) hash(mostSignificant[next], leastSignificant[next]) & mask;
+                if (((next - home) & mask) >= ((next - gap) & mask)) {
+                    mostSignificant[gap] = mostSignificant[next];
+                    leastSignificant[gap] = leastSignificant[next];
+                    values[gap] = values[next];
+                    gap = next;
+                }
+                next = (next + 1) & mask;
+            }
+            values[gap] = MISSING;
+            size--;
+        }
+
+        private void grow() {
+            long[] oldMost = mostSignificant;
+            long[] oldLeast = leastSignificant;
+            long[] oldValues = values;
+            reset(oldValues.length << 1);
+            for (int slot = 0; slot < oldValues.length; slot++) {
+                if (oldValues[slot] != MISSING) {
+                    put(oldMost[slot], oldLeast[slot], oldValues[slot], hash(oldMost[slot], oldLeast[slot]));
+                }
+            }
+        }
+    }
+}
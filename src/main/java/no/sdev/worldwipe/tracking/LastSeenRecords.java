@@ -0,0 +1,125 @@
+package no.sdev.worldwipe.tracking;
+
+import java.util.Arrays;
+
+final class LastSeenRecords implements LastSeenJournal.RecordSource {
+
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    private long[] mostSignificant;
+    private long[] leastSignificant;
+    private long[] values;
+    private int size;
+
+    LastSeenRecords(int expected) {
+        int capacity = Math.max(16, expected);
+        mostSignificant = new long[capacity];
+        leastSignificant = new long[capacity];
+        values = new long[capacity];
+    }
+
+    void add(long msb, long lsb, long value) {
+        if (size == values.length) {
+            int capacity = size << 1;
+            mostSignificant = Arrays.copyOf(mostSignificant, capacity);
+            leastSignificant = Arrays.copyOf(leastSignificant, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        mostSignificant[size] = msb;
+        leastSignificant[size] = lsb;
+        values[size] = value;
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long mostSignificant(int index) {
+        return mostSignificant[index];
+    }
+
+    long leastSignificant(int index) {
+        return leastSignificant[index];
+    }
+
+    long value(int index) {
+        return values[index];
+    }
+
+    void sort() {
+        quickSort(0, size - 1);
+    }
+
+    @Override
+    public void forEach(LastSeenJournal.RecordConsumer consumer) {
+        for (int i = 0; i < size; i++) {
+            consumer.accept(mostSignificant[i], leastSignificant[i], values[i]);
+        }
+    }
+
+    static int compareKeys(long msbA, long lsbA, long msbB, long lsbB) {
+        int result = Long.compare(msbA, msbB);
+        return result != 0 ? result : Long.compare(lsbA, lsbB);
+    }
+
+    private void quickSort(int low, int high) {
+        while (high - low > INSERTION_SORT_THRESHOLD) {
+            int middle = (low + high) >>> 1;
+            if (compare(middle, low) < 0) {
+                swap(middle, low);
+            }
+            if (compare(high, low) < 0) {
+                swap(high, low);
+            }
+            if (compare(high, middle) < 0) {
+                swap(high, middle);
+            }
+            long pivotMsb = mostSignificant[middle];
+            long pivotLsb = leastSignificant[middle];
+            int i = low;
+            int j = high;
+            while (i <= j) {
+                while (compareKeys(mostSignificant[i], leastSignificant[i], pivotMsb, pivotLsb) < 0) {
+                    i++;
+                }
+                while (compareKeys(mostSignificant[j], leastSignificant[j], pivotMsb, pivotLsb) > 0) {
+                    j--;
+                }
+                if (i <= j) {
+                    swap(i, j);
+                    i++;
+                    j--;
+                }
+            }
+            if (j - low < high - i) {
+                quickSort(low, j);
+                low = i;
+            } else {
+                quickSort(i, high);
+                high = j;
+            }
+        }
+        for (int i = low + 1; i <= high; i++) {
+            for (int j = i; j > low && compare(j, j - 1) < 0; j--) {
+                swap(j, j - 1);
+            }
+        }
+    }
+
+    private int compare(int a, int b) {
+        return compareKeys(mostSignificant[a], leastSignificant[a], mostSignificant[b], leastSignificant[b]);
+    }
+
+    private void swap(int a, int b) {
+        long msb = mostSignificant[a];
+        long lsb = leastSignificant[a];
+        long value = values[a];
+        mostSignificant[a] = mostSignificant[b];
+        leastSignificant[a] = leastSignificant[b];
+        values[a] = values[b];
+        mostSignificant[b] = msb;
+        leastSignificant[b] = lsb;
+        values[b] = value;
+    }
+}
@@ -0,0 +1,246 @@
+package no.sdev.worldwipe.tracking;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.UUID;
+
+public final class LastSeenStore implements Closeable {
+
+    public enum Backing {
+        HEAP,
+        MAPPED
+    }
+
+    private static final int DAY_BITS = 20;
+    private static final long DAY_MASK = (1L << DAY_BITS) - 1L;
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
+    private final LastSeenMap entries;
+    private final LastSeenJournal journal;
+    private volatile Backing backing = Backing.HEAP;
+    private volatile MappedLastSeenSnapshot snapshot;
+    private volatile long minimumEpoch = Long.MIN_VALUE;
+    private volatile int retentionDays;
+    private volatile int oldestDay = Integer.MIN_VALUE;
+
+    public LastSeenStore(Path snapshotPath, Path journalPath) {
+        this(snapshotPath, journalPath, new LastSeenMap());
+    }
+
+    LastSeenStore(Path snapshotPath, Path journalPath, LastSeenMap entries) {
+        this.journal = new LastSeenJournal(snapshotPath, journalPath);
+        this.entries = entries;
+    }
+
+    public static int today() {
+        return (int) Math.floorDiv(System.currentTimeMillis(), MILLIS_PER_DAY);
+    }
+
+    public Backing backing() {
+        return backing;
+    }
+
+    public void setBacking(Backing backing) {
+        this.backing = backing == null ? Backing.HEAP : backing;
+    }
+
+    public void setRetentionDays(int days) {
+        retentionDays = Math.max(0, days);
+        oldestDay = retentionDays == 0 ? Integer.MIN_VALUE : today() - retentionDays;
+    }
+
+    public long get(UUID playerId) {
+        return get(playerId.getMostSignificantBits(), playerId.getLeastSignificantBits());
+    }
+
+    public long get(long msb, long lsb) {
+        long packed = entries.get(msb, lsb);
+        if (packed == LastSeenMap.MISSING) {
+            MappedLastSeenSnapshot mapped = snapshot;
+            if (mapped != null) {
+                packed = mapped.get(msb, lsb);
+            }
+        }
+        return packed != LastSeenMap.MISSING && isLive(packed) ? epoch(packed) : LastSeenMap.MISSING;
+    }
+
+    public long put(UUID playerId, long epoch) {
+        return put(playerId, epoch, today());
+    }
+
+    public long put(UUID playerId, long epoch, int day) {
+        return put(playerId.getMostSignificantBits(), playerId.getLeastSignificantBits(), epoch, day);
+    }
+
+    public long put(long msb, long lsb, long epoch, int day) {
+        long packed = pack(epoch, day);
+        index(msb, lsb, packed);
+        return packed;
+    }
+
+    public void append(UUID playerId, long packed) throws IOException {
+        append(playerId.getMostSignificantBits(), playerId.getLeastSignificantBits(), packed);
+    }
+
+    public void append(long msb, long lsb, long packed) throws IOException {
+        journal.append(msb, lsb, packed);
+    }
+
+    public int pendingRecords() {
+        return journal.pendingRecords();
+    }
+
+    public boolean exists() {
+        return journal.exists();
+    }
+
+    public long journalRecords() {
+        return journal.journalRecords();
+    }
+
+    public int size() {
+        MappedLastSeenSnapshot mapped = snapshot;
+        if (mapped == null) {
+            return entries.size();
+        }
+        int[] size = {mapped.count()};
+        entries.forEach((msb, lsb, packed) -> {
+            if (mapped.get(msb, lsb) == LastSeenMap.MISSING) {
+                size[0]++;
+            }
+        });
+        return size[0];
+    }
+
+    public void prune(long minimumEpoch) {
+        this.minimumEpoch = minimumEpoch;
+    }
+
+    public boolean expire() {
+        int days = retentionDays;
+        if (days <= 0) {
+            return false;
+        }
+        int cutoff = today() - days;
+        if (cutoff <= oldestDay) {
+            return false;
+        }
+        oldestDay = cutoff;
+        return true;
+    }
+
+    public int purge() {
+        return entries.removeIf(packed -> !isLive(packed));
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        snapshot = null;
+    }
+
+    public synchronized void load() throws IOException {
+        clear();
+        Path source = journal.readableSnapshot();
+        if (backing == Backing.HEAP || !LastSeenJournal.isSorted(source)) {
+            journal.loadSnapshot(source, this::index);
+            journal.loadJournalsAfter(source, this::index);
+            if (backing == Backing.MAPPED && !entries.isEmpty()) {
+                compact();
+            }
+            return;
+        }
+        snapshot = MappedLastSeenSnapshot.open(source);
+        journal.loadJournalsAfter(source, this::index);
+    }
+
+    public synchronized void compact() throws IOException {
+        purge();
+        synchronized (journal) {
+            LastSeenRecords delta = new LastSeenRecords(entries.size());
+            entries.forEach(delta::add);
+            delta.sort();
+            if (backing == Backing.HEAP) {
+                snapshot = null;
+                journal.compact(delta);
+                return;
+            }
+            MappedLastSeenSnapshot previous = snapshot;
+            journal.compact(consumer -> merge(previous, delta, consumer));
+            snapshot = MappedLastSeenSnapshot.open(journal.snapshotPath());
+            for (int i = 0; i < delta.size(); i++) {
+                entries.remove(delta.mostSignificant(i), delta.leastSignificant(i), delta.value(i));
+            }
+        }
+    }
+
+    public void flush() throws IOException {
+        journal.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        journal.close();
+    }
+
+    void index(long msb, long lsb, long packed) {
+        entries.put(msb, lsb, packed);
+    }
+
+    private boolean isLive(long packed) {
+        return epoch(packed) >= minimumEpoch && day(packed) >= oldestDay;
+    }
+
+    private void merge(MappedLastSeenSnapshot base, LastSeenRecords delta, LastSeenJournal.RecordConsumer consumer) {
+        int baseCount = base != null ? base.count() : 0;
+        int baseIndex = 0;
+        int deltaIndex = 0;
+        while (baseIndex < baseCount || deltaIndex < delta.size()) {
+            int comparison;
+            if (baseIndex >= baseCount) {
+                comparison = 1;
+            } else if (deltaIndex >= delta.size()) {
+                comparison = -1;
+            } else {
+                comparison = LastSeenRecords.compareKeys(
+                        base.mostSignificant(baseIndex),
+                        base.leastSignificant(baseIndex),
+                        delta.mostSignificant(deltaIndex),
+                        delta.leastSignificant(deltaIndex)
+                );
+            }
+            long msb;
+            long lsb;
+            long packed;
+            if (comparison < 0) {
+                msb = base.mostSignificant(baseIndex);
+                lsb = base.leastSignificant(baseIndex);
+                packed = base.value(baseIndex);
+                baseIndex++;
+            } else {
+                msb = delta.mostSignificant(deltaIndex);
+                lsb = delta.leastSignificant(deltaIndex);
+                packed = delta.value(deltaIndex);
+                deltaIndex++;
+                if (comparison == 0) {
+                    baseIndex++;
+                }
+            }
+            if (isLive(packed)) {
+                consumer.accept(msb, lsb, packed);
+            }
+        }
+    }
+
+    private static long pack(long epoch, int day) {
+        return (epoch << DAY_BITS) | (day & DAY_MASK);
+    }
+
+    private static long epoch(long packed) {
+        return packed >> DAY_BITS;
+    }
+
+    private static int day(long packed) {
+        return (int) (packed & DAY_MASK);
+    }
+}
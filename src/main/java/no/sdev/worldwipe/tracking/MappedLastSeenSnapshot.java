@@ -0,0 +1,91 @@
+package no.sdev.worldwipe.tracking;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+final class MappedLastSeenSnapshot {
+
+    private final MappedByteBuffer buffer;
+    private final int count;
+
+    private MappedLastSeenSnapshot(MappedByteBuffer buffer, int count) {
+        this.buffer = buffer;
+        this.count = count;
+    }
+
+    static MappedLastSeenSnapshot open(Path path) throws IOException {
+        if (path == null || Files.notExists(path)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long recordBytes = size - LastSeenJournal.SORTED_HEADER_BYTES;
+            if (recordBytes < 0 || recordBytes % LastSeenJournal.RECORD_BYTES != 0) {
+                throw new IOException("Corrupt last-seen snapshot: " + path);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0L, size);
+            if (buffer.getInt(0) != LastSeenJournal.SORTED_SNAPSHOT_MAGIC) {
+                throw new IOException("Last-seen snapshot is not sorted: " + path);
+            }
+            return new MappedLastSeenSnapshot(buffer, (int) (recordBytes / LastSeenJournal.RECORD_BYTES));
+        }
+    }
+
+    int count() {
+        return count;
+    }
+
+    long mostSignificant(int index) {
+        return buffer.getLong(offset(index));
+    }
+
+    long leastSignificant(int index) {
+        return buffer.getLong(offset(index) + Long.BYTES);
+    }
+
+    long value(int index) {
+        return buffer.getLong(offset(index) + 2 * Long.BYTES);
+    }
+
+    long get(long mostSignificant, long leastSignificant) {
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int offset = offset(middle);
+            int comparison = LastSeenRecords.compareKeys(
+                    buffer.getLong(offset),
+                    buffer.getLong(offset + Long.BYTES),
+                    mostSignificant,
+                    leastSignificant
+            );
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return buffer.getLong(offset + 2 * Long.BYTES);
+            }
+        }
+        return LastSeenMap.MISSING;
+    }
+
+    void forEach(LastSeenJournal.RecordConsumer consumer) {
+        for (int i = 0; i < count; i++) {
+            int offset = offset(i);
+            consumer.accept(
+                    buffer.getLong(offset),
+                    buffer.getLong(offset + Long.BYTES),
+                    buffer.getLong(offset + 2 * Long.BYTES)
+            );
+        }
+    }
+
+    private static int offset(int index) {
+        return LastSeenJournal.SORTED_HEADER_BYTES + index * LastSeenJournal.RECORD_BYTES;
+    }
+}
@@ -0,0 +1,349 @@
+package no.sdev.worldwipe.tracking;
+
+import com.hypixel.hytale.logger.HytaleLogger;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+public final class ShardedLastSeenStore implements Closeable {
+
+    private static final HytaleLogger LOGGER = HytaleLogger.forEnclosingClass();
+
+    public static final int SHARD_BITS = 6;
+    public static final int SHARD_COUNT = 1 << SHARD_BITS;
+    public static final long GLOBAL_SCOPE = 0L;
+
+    private static final int SHARD_STRIPE_CAPACITY = 8;
+    private static final int UNLOADED = 0;
+    private static final int LOADED = 1;
+    private static final int FAILED = 2;
+
+    private final Path directory;
+    private final AtomicReferenceArray<Shard> shards = new AtomicReferenceArray<>(SHARD_COUNT);
+    private volatile LastSeenStore.Backing backing = LastSeenStore.Backing.HEAP;
+    private volatile long minimumEpoch = Long.MIN_VALUE;
+    private volatile int retentionDays;
+    private volatile boolean lazy;
+
+    public ShardedLastSeenStore(Path directory) {
+        this.directory = directory;
+    }
+
+    public static int shardOf(UUID playerId) {
+        return shardOf(playerId.getMostSignificantBits(), playerId.getLeastSignificantBits());
+    }
+
+    public static long worldScope(String worldKey) {
+        long h = 0xCBF29CE484222325L;
+        for (int i = 0; i < worldKey.length(); i++) {
+            h ^= worldKey.charAt(i);
+            h *= 0x100000001B3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        return h == GLOBAL_SCOPE ? 1L : h;
+    }
+
+    public LastSeenStore.Backing backing() {
+        return backing;
+    }
+
+    public void setBacking(LastSeenStore.Backing backing) {
+        this.backing = backing == null ? LastSeenStore.Backing.HEAP : backing;
+        forEachShard(shard -> shard.store.setBacking(this.backing));
+    }
+
+    public void setRetentionDays(int days) {
+        retentionDays = Math.max(0, days);
+        forEachShard(shard -> shard.store.setRetentionDays(retentionDays));
+    }
+
+    public long get(UUID playerId) {
+        return get(playerId, GLOBAL_SCOPE);
+    }
+
+    public long get(UUID playerId, long worldScope) {
+        return loaded(shardOf(playerId)).store.get(
+                playerId.getMostSignificantBits() ^ worldScope,
+                playerId.getLeastSignificantBits()
+        );
+    }
+
+    public long put(UUID playerId, long epoch) {
+        return put(playerId, GLOBAL_SCOPE, epoch, LastSeenStore.today());
+    }
+
+    public long put(UUID playerId, long epoch, int day) {
+        return put(playerId, GLOBAL_SCOPE, epoch, day);
+    }
+
+    public long put(UUID playerId, long worldScope, long epoch, int day) {
+        Shard shard = loaded(shardOf(playerId));
+        shard.dirty = true;
+        return shard.store.put(
+                playerId.getMostSignificantBits() ^ worldScope,
+                playerId.getLeastSignificantBits(),
+                epoch,
+                day
+        );
+    }
+
+    public void append(UUID playerId, long packed) throws IOException {
+        append(playerId, GLOBAL_SCOPE, packed);
+    }
+
+    public void append(UUID playerId, long worldScope, long packed) throws IOException {
+        loaded(shardOf(playerId)).store.append(
+                playerId.getMostSignificantBits() ^ worldScope,
+                playerId.getLeastSignificantBits(),
+                packed
+        );
+    }
+
+    public boolean exists() {
+        if (!Files.isDirectory(directory)) {
+            return false;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*.{bin,journal}")) {
+            return files.iterator().hasNext();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    public long journalRecords() {
+        long records = 0L;
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            Shard shard = shards.get(i);
+            if (shard != null) {
+                records += shard.store.journalRecords();
+            }
+        }
+        return records;
+    }
+
+    public int loadedShards() {
+        int loaded = 0;
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            Shard shard = shards.get(i);
+            if (shard != null && shard.state != UNLOADED) {
+                loaded++;
+            }
+        }
+        return loaded;
+    }
+
+    public int size() {
+        int size = 0;
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            Shard shard = shards.get(i);
+            if (shard != null) {
+                size += shard.store.size();
+            }
+        }
+        return size;
+    }
+
+    public void prune(long minimumEpoch) {
+        this.minimumEpoch = minimumEpoch;
+        forEachShard(shard -> shard.store.prune(minimumEpoch));
+    }
+
+    public void expire() {
+        forEachShard(shard -> {
+            if (shard.store.expire()) {
+                shard.expired = true;
+            }
+        });
+    }
+
+    public boolean hasExpired() {
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            Shard shard = shards.get(i);
+            if (shard != null && shard.expired) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int purgeExpired() {
+        int removed = 0;
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            Shard shard = shards.get(i);
+            if (shard == null || !shard.expired) {
+                continue;
+            }
+            synchronized (shard) {
+                removed += shard.store.purge();
+                shard.expired = false;
+            }
+        }
+        return removed;
+    }
+
+    public synchronized void clear() {
+        lazy = false;
+        forEachShard(shard -> {
+            synchronized (shard) {
+                shard.store.clear();
+                shard.state = LOADED;
+                shard.dirty = false;
+                shard.expired = false;
+            }
+        });
+    }
+
+    public synchronized void load() {
+        lazy = true;
+        forEachShard(shard -> {
+            synchronized (shard) {
+                shard.store.clear();
+                shard.state = UNLOADED;
+                shard.dirty = false;
+            }
+        });
+    }
+
+    public void importFrom(LastSeenJournal legacy) throws IOException {
+        legacy.load((mostSignificant, leastSignificant, value) -> {
+            Shard shard = loaded(shardOf(mostSignificant, leastSignificant));
+            shard.dirty = true;
+            shard.store.index(mostSignificant, leastSignificant, value);
+        });
+    }
+
+    public int compact() throws IOException {
+        int compacted = 0;
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            Shard shard = shards.get(i);
+            if (shard == null) {
+                continue;
+            }
+            synchronized (shard) {
+                if (shard.state != LOADED
+                        || (!shard.dirty && !shard.expired && shard.store.journalRecords() == 0L)) {
+                    continue;
+                }
+                shard.store.compact();
+                shard.dirty = false;
+                shard.expired = false;
+                compacted++;
+            }
+        }
+        return compacted;
+    }
+
+    public void flush() throws IOException {
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            Shard shard = shards.get(i);
+            if (shard != null && shard.store.pendingRecords() > 0) {
+                shard.store.flush();
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOException failure = null;
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            Shard shard = shards.get(i);
+            if (shard == null) {
+                continue;
+            }
+            try {
+                shard.store.close();
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private Shard loaded(int index) {
+        Shard shard = shard(index);
+        if (shard.state == UNLOADED) {
+            synchronized (shard) {
+                if (shard.state == UNLOADED) {
+                    shard.state = loadShard(index, shard.store);
+                }
+            }
+        }
+        return shard;
+    }
+
+    private int loadShard(int index, LastSeenStore store) {
+        if (!lazy || !store.exists()) {
+            return LOADED;
+        }
+        try {
+            store.load();
+            return LOADED;
+        } catch (IOException e) {
+            LOGGER.at(Level.WARNING).withCause(e).log(
+                    "[WorldWipe] Failed to load last-seen shard %s; it will not be compacted until the next reload.",
+                    shardName(index)
+            );
+            return FAILED;
+        }
+    }
+
+    private Shard shard(int index) {
+        Shard shard = shards.get(index);
+        if (shard != null) {
+            return shard;
+        }
+        String name = shardName(index);
+        LastSeenStore store = new LastSeenStore(
+                directory.resolve(name + ".bin"),
+                directory.resolve(name + ".journal"),
+                new LastSeenMap(SHARD_STRIPE_CAPACITY)
+        );
+        store.setBacking(backing);
+        store.setRetentionDays(retentionDays);
+        store.prune(minimumEpoch);
+        Shard created = new Shard(store, lazy ? UNLOADED : LOADED);
+        return shards.compareAndSet(index, null, created) ? created : shards.get(index);
+    }
+
+    private void forEachShard(Consumer<Shard> action) {
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            Shard shard = shards.get(i);
+            if (shard != null) {
+                action.accept(shard);
+            }
+        }
+    }
+
+    private static int shardOf(long mostSignificant, long leastSignificant) {
+        long h = (mostSignificant ^ leastSignificant) * 0x9E3779B97F4A7C15L;
+        return (int) (h >>> (Long.SIZE - SHARD_BITS));
+    }
+
+    private static String shardName(int index) {
+        return String.format(Locale.ROOT, "%02x", index);
+    }
+
+    private static final class Shard {
+        private final LastSeenStore store;
+        private volatile int state;
+        private volatile boolean dirty;
+        private volatile boolean expired;
+
+        private Shard(LastSeenStore store, int state) {
+            this.store = store;
+            this.state = state;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package no.sdev.worldwipe.tracking;
+
+import no.sdev.worldwipe.world.WorldKey;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class WipeEpochs {
+
+    public static final long NONE = 0L;
+
+    private final Map<WorldKey, Long> worlds = new HashMap<>();
+    private long current;
+
+    public synchronized long current() {
+        return current;
+    }
+
+    public synchronized long get(WorldKey worldKey) {
+        Long epoch = worlds.get(worldKey);
+        return epoch != null ? epoch : NONE;
+    }
+
+    public synchronized boolean isEmpty() {
+        return worlds.isEmpty();
+    }
+
+    public synchronized long advance(WorldKey worldKey) {
+        current++;
+        worlds.put(worldKey, current);
+        return current;
+    }
+
+    public synchronized long minimum() {
+        long minimum = Long.MAX_VALUE;
+        for (long epoch : worlds.values()) {
+            minimum = Math.min(minimum, epoch);
+        }
+        return worlds.isEmpty() ? Long.MIN_VALUE : minimum;
+    }
+
+    public synchronized void retain(Collection<WorldKey> worldKeys) {
+        worlds.keySet().retainAll(worldKeys);
+    }
+
+    public synchronized void restore(long current, Map<String, Long> epochs) {
+        worlds.clear();
+        long highest = 0L;
+        if (epochs != null) {
+            for (Map.Entry<String, Long> entry : epochs.entrySet()) {
+                WorldKey key = WorldKey.of(entry.getKey());
+                if (key == null || entry.getValue() == null || entry.getValue() <= NONE) {
+                    continue;
+                }
+                worlds.put(key, entry.getValue());
+                highest = Math.max(highest, entry.getValue());
+            }
+        }
+        this.current = Math.max(current, highest);
+    }
+
+    public synchronized void rebuild(Map<WorldKey, Instant> lastWipes) {
+        List<Map.Entry<WorldKey, Instant>> ordered = new ArrayList<>();
+        for (Map.Entry<WorldKey, Instant> entry : lastWipes.entrySet()) {
+            if (entry.getKey() != null && entry.getValue() != null) {
+                ordered.add(entry);
+            }
+        }
+        ordered.sort(Map.Entry.comparingByValue(Comparator.naturalOrder()));
+        worlds.clear();
+        Instant previous = null;
+        for (Map.Entry<WorldKey, Instant> entry : ordered) {
+            if (previous == null || entry.getValue().isAfter(previous)) {
+                current++;
+                previous = entry.getValue();
+            }
+            worlds.put(entry.getKey(), current);
+        }
+    }
+
+    public synchronized long seenAt(Instant lastSeen, Map<WorldKey, Instant> lastWipes) {
+        long seen = NONE;
+        for (Map.Entry<WorldKey, Instant> entry : lastWipes.entrySet()) {
+            Long epoch = worlds.get(entry.getKey());
+            if (epoch != null && entry.getValue() != null && !entry.getValue().isAfter(lastSeen)) {
+                seen = Math.max(seen, epoch);
+            }
+        }
+        return seen;
+    }
+
+    public synchronized Map<String, Long> snapshot() {
+        Map<String, Long> snapshot = new HashMap<>();
+        worlds.forEach((key, epoch) -> snapshot.put(key.value(), epoch));
+        return snapshot;
+    }
+}
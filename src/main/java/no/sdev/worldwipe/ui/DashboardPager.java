@@ -0,0 +1,81 @@
+package no.sdev.worldwipe.ui;
+
+import java.util.List;
+
+final class DashboardPager {
+
+    private int page;
+    private int pageCount = 1;
+    private String followed;
+    private List<String> shown = List.of();
+
+    List<String> window(List<String> worlds, String selected, int pageSize) {
+        int size = Math.max(1, pageSize);
+        pageCount = Math.max(1, (worlds.size() + size - 1) / size);
+        if (selected != null && !selected.equalsIgnoreCase(followed)) {
+            for (int i = 0; i < worlds.size(); i++) {
+                if (worlds.get(i).equalsIgnoreCase(selected)) {
+                    page = i / size;
+                    break;
+                }
+            }
+        }
+        followed = selected;
+        page = Math.max(0, Math.min(page, pageCount - 1));
+        int from = page * size;
+        shown = List.copyOf(worlds.subList(from, Math.min(worlds.size(), from + size)));
+        return shown;
+    }
+
+    boolean turn(String direction) {
+        int target = switch (direction != null ? direction : "") {
+            case "first" -> 0;
+            case "prev" -> page - 1;
+            case "next" -> page + 1;
+            case "last" -> pageCount - 1;
+            default -> pageNumber(direction) - 1;
+        };
+        target = Math.max(0, Math.min(target, pageCount - 1));
+        if (target == page) {
+            return false;
+        }
+        page = target;
+        return true;
+    }
+
+    private int pageNumber(String value) {
+        try {
+            return value != null ? Integer.parseInt(value.trim()) : page + 1;
+        } catch (NumberFormatException e) {
+            return page + 1;
+        }
+    }
+
+    String world(String slot) {
+        if (slot == null) {
+            return null;
+        }
+        try {
+            int index = Integer.parseInt(slot.trim());
+            return index >= 0 && index < shown.size() ? shown.get(index) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    String label() {
+        return "Page " + (page + 1) + "/" + pageCount;
+    }
+
+    boolean hasPrevious() {
+        return page > 0;
+    }
+
+    boolean hasNext() {
+        return page < pageCount - 1;
+    }
+
+    boolean paged() {
+        return pageCount > 1;
+    }
+}
@@ -0,0 +1,110 @@
+package no.sdev.worldwipe.ui;
+
+import com.hypixel.hytale.protocol.packets.interface_.CustomUIEventBindingType;
+import com.hypixel.hytale.server.core.ui.builder.EventData;
+import com.hypixel.hytale.server.core.ui.builder.UICommandBuilder;
+import com.hypixel.hytale.server.core.ui.builder.UIEventBuilder;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+final class DashboardShadow {
+
+    private final Map<String, Object> sent = new HashMap<>();
+    private final Map<String, List<Row>> lists = new HashMap<>();
+    private int changes;
+
+    record Row(String template, String element, String text, String action, String value) {
+        private boolean sameElement(Row other) {
+            return template.equals(other.template)
+                    && element.equals(other.element)
+                    && Objects.equals(action, other.action)
+                    && Objects.equals(value, other.value);
+        }
+    }
+
+    void reset() {
+        sent.clear();
+        lists.clear();
+        changes = 0;
+    }
+
+    void observe(String selector, Object value) {
+        sent.put(selector, value);
+    }
+
+    boolean changed(String selector, Object value) {
+        if (sent.containsKey(selector) && Objects.equals(sent.get(selector), value)) {
+            return false;
+        }
+        sent.put(selector, value);
+        changes++;
+        return true;
+    }
+
+    void set(UICommandBuilder cmd, String selector, String value) {
+        if (changed(selector, value)) {
+            cmd.set(selector, value);
+        }
+    }
+
+    void set(UICommandBuilder cmd, String selector, boolean value) {
+        if (changed(selector, value)) {
+            cmd.set(selector, value);
+        }
+    }
+
+    void list(UICommandBuilder cmd, UIEventBuilder evt, String selector, List<Row> rows) {
+        List<Row> previous = lists.get(selector);
+        int keep = 0;
+        if (previous == null) {
+            cmd.clear(selector);
+            previous = List.of();
+            changes++;
+        } else {
+            while (keep < previous.size() && keep < rows.size() && previous.get(keep).sameElement(rows.get(keep))) {
+                keep++;
+            }
+            if (keep == 0 && !previous.isEmpty()) {
+                cmd.clear(selector);
+                changes++;
+            } else {
+                for (int i = previous.size() - 1; i >= keep; i--) {
+                    cmd.remove(selector + "[" + i + "]");
+                    changes++;
+                }
+            }
+        }
+        for (int i = 0; i < keep; i++) {
+            Row row = rows.get(i);
+            if (!row.text().equals(previous.get(i).text())) {
+                cmd.set(selector + "[" + i + "] " + row.element() + ".Text", row.text());
+                changes++;
+            }
+        }
+        for (int i = keep; i < rows.size(); i++) {
+            Row row = rows.get(i);
+            String entry = selector + "[" + i + "] " + row.element();
+            cmd.append(selector, row.template());
+            cmd.set(entry + ".Text", row.text());
+            if (row.action() != null) {
+                evt.addEventBinding(
+                        CustomUIEventBindingType.Activating,
+                        entry,
+                        new EventData().append("Action", row.action()).append("Value", row.value()),
+                        false
+                );
+            }
+            changes++;
+        }
+        lists.put(selector, List.copyOf(rows));
+    }
+
+    boolean takeChanges() {
+        boolean any = changes > 0;
+        changes = 0;
+        return any;
+    }
+}
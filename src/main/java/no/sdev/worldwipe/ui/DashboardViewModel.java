@@ -0,0 +1,224 @@
+package no.sdev.worldwipe.ui;
+
+import com.hypixel.hytale.server.core.universe.Universe;
+import com.hypixel.hytale.server.core.universe.world.World;
+import no.sdev.worldwipe.WorldWipePlugin;
+import no.sdev.worldwipe.world.WorldKey;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+final class DashboardViewModel {
+
+    private static final Object LOCK = new Object();
+    private static volatile DashboardViewModel current;
+
+    private final WorldWipePlugin plugin;
+    private final long version;
+    private final Set<String> worldKeySet;
+    private final Map<WorldKey, WorldWipePlugin.WorldSchedule> schedules = new HashMap<>();
+    private final Map<WorldKey, String> scheduleLabels = new HashMap<>();
+    private final Map<String, String> scheduleListLabels = new HashMap<>();
+    private final Set<WorldKey> loadedKeys = new HashSet<>();
+    private final Set<WorldKey> protectedKeys = new HashSet<>();
+    private final Set<WorldKey> scheduleKeys = new HashSet<>();
+    private final Set<WorldKey> forceKeys = new HashSet<>();
+
+    final boolean available;
+    final boolean schedulingEnabled;
+    final String nextWipeText;
+    final String summaryText;
+    final String schedulingStatus;
+    final String protectedSummary;
+    final String statusDetailsPrefix;
+    final String nextWipeLabel;
+    final List<String> loadedWorlds;
+    final List<String> protectedWorlds;
+    final List<String> scheduleWorlds;
+    final List<String> forceWorlds;
+    final int pageSize;
+
+    private DashboardViewModel(WorldWipePlugin plugin, Universe universe, Map<String, World> worlds) {
+        this.plugin = plugin;
+        this.version = plugin != null ? plugin.getStateVersion() : -1L;
+        this.worldKeySet = Set.copyOf(worlds.keySet());
+        this.available = plugin != null;
+        this.pageSize = plugin != null ? plugin.getDashboardPageSize() : 10;
+
+        List<String> loaded = new ArrayList<>();
+        for (String name : worlds.keySet()) {
+            if (name != null && !name.isBlank()) {
+                loaded.add(name);
+                loadedKeys.add(WorldKey.intern(name));
+            }
+        }
+        loaded.sort(String.CASE_INSENSITIVE_ORDER);
+        this.loadedWorlds = List.copyOf(loaded);
+
+        List<String> protectedList = new ArrayList<>();
+        List<WorldWipePlugin.WorldSchedule> scheduleList = plugin != null ? plugin.getWorldSchedules() : List.of();
+        if (plugin != null) {
+            for (String world : plugin.getProtectedWorlds()) {
+                if (world != null && !world.isBlank()) {
+                    protectedList.add(world);
+                    protectedKeys.add(WorldKey.of(world));
+                }
+            }
+            for (WorldWipePlugin.WorldSchedule schedule : scheduleList) {
+                WorldKey key = schedule != null ? WorldKey.of(schedule.world()) : null;
+                if (key != null && !schedules.containsKey(key)) {
+                    schedules.put(key, schedule);
+                    scheduleLabels.put(key, formatScheduleLabel(schedule));
+                }
+            }
+        }
+        this.protectedWorlds = List.copyOf(protectedList);
+
+        LinkedHashSet<String> candidates = new LinkedHashSet<>(loaded);
+        for (WorldWipePlugin.WorldSchedule schedule : scheduleList) {
+            if (schedule != null && schedule.world() != null && !schedule.world().isBlank()) {
+                candidates.add(schedule.world());
+            }
+        }
+        List<String> visible = new ArrayList<>();
+        for (String world : candidates) {
+            WorldKey key = WorldKey.of(world);
+            if (protectedKeys.contains(key)) {
+                continue;
+            }
+            visible.add(world);
+            scheduleKeys.add(key);
+            String scheduleLabel = scheduleLabels.get(key);
+            String label = world + " - " + (scheduleLabel != null ? scheduleLabel : "not scheduled");
+            if (universe != null && !loadedKeys.contains(key) && !universe.isWorldLoadable(world)) {
+                label = label + " (missing)";
+            }
+            scheduleListLabels.put(world, label);
+        }
+        this.scheduleWorlds = List.copyOf(visible);
+
+        List<String> force = new ArrayList<>();
+        for (String world : loaded) {
+            WorldKey key = WorldKey.of(world);
+            if (!protectedKeys.contains(key)) {
+                force.add(world);
+                forceKeys.add(key);
+            }
+        }
+        this.forceWorlds = List.copyOf(force);
+
+        if (plugin == null) {
+            this.schedulingEnabled = false;
+            this.nextWipeText = null;
+            this.summaryText = null;
+            this.schedulingStatus = null;
+            this.protectedSummary = null;
+            this.statusDetailsPrefix = null;
+            this.nextWipeLabel = null;
+            return;
+        }
+
+        this.schedulingEnabled = plugin.isSchedulingEnabled();
+        String protectedLabel = protectedList.isEmpty() ? "none" : String.join(", ", protectedList);
+        WorldWipePlugin.NextWipe nextWipe = plugin.getNextWipe();
+        Instant next = nextWipe.at();
+        List<String> nextWorlds = nextWipe.worlds();
+        String nextWorldLabel = nextWorlds.isEmpty() ? "none" : String.join(", ", nextWorlds);
+        ZonedDateTime nextZoned = next != null ? ZonedDateTime.ofInstant(next, ZoneId.systemDefault()) : null;
+
+        this.schedulingStatus = schedulingEnabled ? "Scheduling: Enabled" : "Scheduling: Disabled";
+        this.protectedSummary = "Protected worlds: " + protectedLabel;
+        this.summaryText = nextZoned == null
+                ? "Protected worlds: " + protectedLabel + " | Next wipe: not scheduled"
+                : "Protected worlds: " + protectedLabel + " | Next: " + nextZoned + " (" + nextWorldLabel + ")";
+        if (!schedulingEnabled) {
+            this.nextWipeText = "Scheduling disabled";
+        } else if (nextZoned == null) {
+            this.nextWipeText = "Next wipe: Not scheduled";
+        } else {
+            this.nextWipeText = "Next wipe: " + nextZoned + " (" + nextWorldLabel + ")";
+        }
+        this.statusDetailsPrefix = schedulingStatus + " | "
+                + (plugin.isRegenerateOnWipe() ? "Regen (global): enabled" : "Regen (global): disabled");
+        this.nextWipeLabel = nextZoned == null ? "Next wipe: not scheduled" : "Next wipe: " + nextZoned;
+    }
+
+    static DashboardViewModel current(WorldWipePlugin plugin) {
+        Universe universe = Universe.get();
+        Map<String, World> worlds = universe != null ? universe.getWorlds() : Map.of();
+        DashboardViewModel snapshot = current;
+        if (snapshot != null && snapshot.matches(plugin, worlds)) {
+            return snapshot;
+        }
+        synchronized (LOCK) {
+            snapshot = current;
+            if (snapshot == null || !snapshot.matches(plugin, worlds)) {
+                snapshot = new DashboardViewModel(plugin, universe, worlds);
+                current = snapshot;
+            }
+            return snapshot;
+        }
+    }
+
+    WorldWipePlugin.WorldSchedule schedule(String worldName) {
+        return worldName != null ? schedules.get(WorldKey.of(worldName)) : null;
+    }
+
+    String scheduleLabel(String worldName) {
+        return worldName != null ? scheduleLabels.get(WorldKey.of(worldName)) : null;
+    }
+
+    String scheduleListLabel(String worldName) {
+        return scheduleListLabels.get(worldName);
+    }
+
+    boolean isLoaded(String worldName) {
+        return loadedKeys.contains(WorldKey.of(worldName));
+    }
+
+    boolean isProtected(String worldName) {
+        return protectedKeys.contains(WorldKey.of(worldName));
+    }
+
+    boolean isScheduleWorld(String worldName) {
+        return scheduleKeys.contains(WorldKey.of(worldName));
+    }
+
+    boolean isForceWorld(String worldName) {
+        return forceKeys.contains(WorldKey.of(worldName));
+    }
+
+    boolean isRegenerateOnWipe(String worldName) {
+        return plugin != null && plugin.isRegenerateOnWipe(worldName);
+    }
+
+    private boolean matches(WorldWipePlugin plugin, Map<String, World> worlds) {
+        return this.plugin == plugin
+                && (plugin == null || plugin.getStateVersion() == version)
+                && worldKeySet.equals(worlds.keySet());
+    }
+
+    private static String formatScheduleLabel(WorldWipePlugin.WorldSchedule schedule) {
+        WorldWipePlugin.ScheduleMode mode = schedule.mode() != null
+                ? schedule.mode()
+                : WorldWipePlugin.ScheduleMode.WEEKLY;
+        String time = schedule.time() != null
+                ? schedule.time().toString()
+                : WorldWipeDashboardUI.DEFAULT_TIME.toString();
+        String zone = schedule.zone() == null ? WorldWipeDashboardUI.DEFAULT_ZONE : schedule.zone().getId();
+
+        return switch (mode) {
+            case DAILY -> "Daily " + time + " (" + zone + ")";
+            case MONTHLY -> "Monthly " + schedule.dayOfMonth() + " " + time + " (" + zone + ")";
+            case WEEKLY -> schedule.day().name() + " " + time + " (" + zone + ")";
+        };
+    }
+}
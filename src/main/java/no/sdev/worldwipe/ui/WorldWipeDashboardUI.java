@@ -27,16 +27,13 @@ import org.bson.BsonValue;
 
 import javax.annotation.Nonnull;
 import java.time.DayOfWeek;
-import java.time.Instant;
 import java.time.LocalTime;
 import java.time.ZoneId;
-import java.time.ZonedDateTime;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
-import java.util.Set;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.logging.Level;
@@ -49,14 +46,21 @@ public class WorldWipeDashboardUI extends InteractiveCustomUIPage<WorldWipeDashb
 
     private static final HytaleLogger LOGGER = HytaleLogger.forEnclosingClass();
     private static final DayOfWeek DEFAULT_DAY = DayOfWeek.MONDAY;
-    private static final LocalTime DEFAULT_TIME = LocalTime.of(6, 0);
-    private static final String DEFAULT_ZONE = "system";
+    static final LocalTime DEFAULT_TIME = LocalTime.of(6, 0);
+    static final String DEFAULT_ZONE = "system";
     private static final String DEFAULT_MODE = "WEEKLY";
     private static final List<String> DAY_OPTIONS = buildDayOptions();
     private static final List<String> TIME_OPTIONS = buildTimeOptions();
     private static final List<String> ZONE_OPTIONS = buildZoneOptions();
     private static final List<String> MODE_OPTIONS = buildModeOptions();
     private static final List<String> DATE_OPTIONS = buildDateOptions();
+    private static final Map<List<String>, List<DropdownEntryInfo>> OPTION_ENTRIES = Map.of(
+            DAY_OPTIONS, buildDropdownEntries(DAY_OPTIONS),
+            TIME_OPTIONS, buildDropdownEntries(TIME_OPTIONS),
+            ZONE_OPTIONS, buildDropdownEntries(ZONE_OPTIONS),
+            MODE_OPTIONS, buildDropdownEntries(MODE_OPTIONS),
+            DATE_OPTIONS, buildDropdownEntries(DATE_OPTIONS)
+    );
     private static final Pattern TIME_PATTERN = Pattern.compile("(\\d{1,2}:\\d{2})");
 
     private static final String VIEW_HOME = "home";
@@ -67,6 +71,11 @@ public class WorldWipeDashboardUI extends InteractiveCustomUIPage<WorldWipeDashb
     private static final String VIEW_STATUS = "status";
 
     private final PlayerRef playerRef;
+    private final DashboardShadow shadow = new DashboardShadow();
+    private final DashboardPager schedulePager = new DashboardPager();
+    private final DashboardPager protectedAddPager = new DashboardPager();
+    private final DashboardPager protectedRemovePager = new DashboardPager();
+    private final DashboardPager forcePager = new DashboardPager();
     private int refreshCount = 0;
     private String currentView = VIEW_HOME;
     private String selectedWorld;
@@ -94,13 +103,16 @@ public class WorldWipeDashboardUI extends InteractiveCustomUIPage<WorldWipeDashb
             @Nonnull UIEventBuilder evt,
             @Nonnull Store<EntityStore> store
     ) {
+        shadow.reset();
         cmd.append(LAYOUT);
 
+        DashboardViewModel view = view();
         buildScheduleDropdownEntries(cmd);
-        buildScheduledWorldList(cmd, evt);
-        buildProtectedWorldLists(cmd, evt);
-        buildForceWorldList(cmd, evt);
-        applyInitialState(cmd);
+        buildScheduledWorldList(cmd, evt, view);
+        buildProtectedWorldLists(cmd, evt, view);
+        buildForceWorldList(cmd, evt, view);
+        applyInitialState(cmd, view);
+        shadow.takeChanges();
 
         evt.addEventBinding(
             CustomUIEventBindingType.Activating,
@@ -241,6 +253,24 @@ public class WorldWipeDashboardUI extends InteractiveCustomUIPage<WorldWipeDashb
             new EventData().append("Action", "forceWipe"),
             false
         );
+
+        bindPager(evt, "#ScheduledWorld", "pageSchedule");
+        bindPager(evt, "#ProtectedWorld", "pageProtectedAdd");
+        bindPager(evt, "#ProtectedCurrent", "pageProtectedRemove");
+        bindPager(evt, "#ForceWorld", "pageForce");
+    }
+
+    private static void bindPager(UIEventBuilder evt, String prefix, String action) {
+        evt.addEventBinding(CustomUIEventBindingType.Activating, prefix + "First",
+                new EventData().append("Action", action).append("Value", "first"), false);
+        evt.addEventBinding(CustomUIEventBindingType.Activating, prefix + "Prev",
+                new EventData().append("Action", action).append("Value", "prev"), false);
+        evt.addEventBinding(CustomUIEventBindingType.Activating, prefix + "Next",
+                new EventData().append("Action", action).append("Value", "next"), false);
+        evt.addEventBinding(CustomUIEventBindingType.Activating, prefix + "Last",
+                new EventData().append("Action", action).append("Value", "last"), false);
+        evt.addEventBinding(CustomUIEventBindingType.Activating, prefix + "PageGo",
+                new EventData().append("Action", action).append("@Value", prefix + "PageInput.Value"), false);
     }
 
     @Override
@@ -311,6 +341,7 @@ public class WorldWipeDashboardUI extends InteractiveCustomUIPage<WorldWipeDashb
                             value = null;
                         }
                         pendingCreateWorld = value;
+                        observeValue("#CreateWorldInput.Value", value != null ? data.value : null);
                     }
                     createWorld();
                     break;
@@ -340,19 +371,35 @@ public class WorldWipeDashboardUI extends InteractiveCustomUIPage<WorldWipeDashb
                     break;
 
                 case "selectForceWorld":
-                    selectForceWorld(data.value);
+                    selectForceWorld(forcePager.world(data.value));
                     break;
 
                 case "selectProtectedAddWorld":
-                    selectProtectedAddWorld(data.value);
+                    selectProtectedAddWorld(protectedAddPager.world(data.value));
                     break;
 
                 case "selectProtectedRemoveWorld":
-                    selectProtectedRemoveWorld(data.value);
+                    selectProtectedRemoveWorld(protectedRemovePager.world(data.value));
                     break;
 
                 case "selectScheduleWorld":
-                    selectScheduleWorld(data.value);
+                    selectScheduleWorld(schedulePager.world(data.value));
+                    break;
+
+                case "pageSchedule":
+                    turnPage(schedulePager, data.value);
+                    break;
+
+                case "pageProtectedAdd":
+                    turnPage(protectedAddPager, data.value);
+                    break;
+
+                case "pageProtectedRemove":
+                    turnPage(protectedRemovePager, data.value);
+                    break;
+
+                case "pageForce":
+                    turnPage(forcePager, data.value);
                     break;
 
                 case "navSchedule":
@@ -441,30 +488,43 @@ public class WorldWipeDashboardUI extends InteractiveCustomUIPage<WorldWipeDashb
         switch (field) {
             case "day":
                 pendingDay = trimmed;
+                observeValue("#DayDropdown.Value", trimmed);
                 break;
             case "date":
                 pendingDayOfMonth = trimmed;
+                observeValue("#DateDropdown.Value", trimmed);
                 break;
             case "time":
                 pendingTime = trimmed;
+                observeValue("#TimeDropdown.Value", trimmed);
                 break;
             case "zone":
                 pendingZone = trimmed;
+                observeValue("#ZoneDropdown.Value", trimmed);
                 break;
             case "mode":
                 pendingMode = trimmed;
+                observeValue("#ModeDropdown.Value", trimmed);
                 break;
             case "createWorld":
                 pendingCreateWorld = trimmed;
+                observeValue("#CreateWorldInput.Value", trimmed != null ? value : null);
                 break;
             case "regenerate":
                 pendingRegenerate = parseBooleanInput(trimmed);
+                observeValue("#RegenerateCheck.Value", pendingRegenerate);
                 break;
             default:
                 break;
         }
     }
 
+    private void observeValue(String selector, Object value) {
+        if (value != null) {
+            shadow.observe(selector, value);
+        }
+    }
+
     private void applyScheduleOverrides(UIEventData data) {
         if (data == null) {
             return;
@@ -473,6 +533,7 @@ public class WorldWipeDashboardUI extends InteractiveCustomUIPage<WorldWipeDashb
         if (day != null && day.startsWith("#")) {
             day = null;
         }
+        observeValue("#DayDropdown.Value", day);
         if (day != null) {
             pendingDay = day;
         }
@@ -480,6 +541,7 @@ public class WorldWipeDashboardUI extends InteractiveCustomUIPage<WorldWipeDashb
         if (date != null && date.startsWith("#")) {
             date = null;
         }
+        observeValue("#DateDropdown.Value", date);
         if (date != null) {
             pendingDayOfMonth = date;
         }
@@ -487,6 +549,7 @@ public class WorldWipeDashboardUI extends InteractiveCustomUIPage<WorldWipeDashb
         if (time != null && time.startsWith("#")) {
             time = null;
         }
+        observeValue("#TimeDropdown.Value", time);
         if (time != null) {
             pendingTime = time;
         }
@@ -494,6 +557,7 @@ public class WorldWipeDashboardUI extends InteractiveCustomUIPage<WorldWipeDashb
         if (zone != null && zone.startsWith("#")) {
             zone = null;
         }
+        observeValue("#ZoneDropdown.Value", zone);
         if (zone != null) {
             pendingZone = zone;
         }
@@ -501,6 +565,7 @@ public class WorldWipeDashboardUI extends InteractiveCustomUIPage<WorldWipeDashb
         if (mode != null && mode.startsWith("#")) {
             mode = null;
         }
+        observeValue("#ModeDropdown.Value", mode);
         if (mode != null) {
             pendingMode = mode;
         }
@@ -513,6 +578,7 @@ public class WorldWipeDashboardUI extends InteractiveCustomUIPage<WorldWipeDashb
             if (parsed != null) {
                 pendingRegenerate = parsed;
             }
+            observeValue("#RegenerateCheck.Value", parsed);
         }
     }
 
@@ -748,6 +814,12 @@ public class WorldWipeDashboardUI extends InteractiveCustomUIPage<WorldWipeDashb
         refreshDashboard(true);
     }
 
+    private void turnPage(DashboardPager pager, String direction) {
+        if (pager.turn(direction)) {
+            refreshDashboard(true);
+        }
+    }
+
     private void navigateTo(String view) {
         if (VIEW_SCHEDULE_EDITOR.equals(view)) {
             if (selectedWorld == null || selectedWorld.isBlank()) {
@@ -758,7 +830,7 @@ public class WorldWipeDashboardUI extends InteractiveCustomUIPage<WorldWipeDashb
 
         boolean isAdmin = hasAdminPermission();
         if (!isAdmin) {
-            boolean canViewSchedules = canViewAnySchedule(loadVisibleScheduleWorlds());
+            boolean canViewSchedules = canViewAnySchedule(visibleScheduleWorlds(view()));
             if (VIEW_SCHEDULE_LIST.equals(view) && canViewSchedules) {
                 currentView = VIEW_SCHEDULE_LIST;
             } else {
@@ -774,9 +846,11 @@ public class WorldWipeDashboardUI extends InteractiveCustomUIPage<WorldWipeDashb
 
     private void updateStatus(String message, NotificationStyle style, boolean notify) {
         UICommandBuilder cmd = new UICommandBuilder();
-        applyInitialState(cmd);
-        cmd.set("#StatusText.Text", message);
-        this.sendUpdate(cmd, false);
+        applyInitialState(cmd, view());
+        shadow.set(cmd, "#StatusText.Text", message);
+        if (shadow.takeChanges()) {
+            this.sendUpdate(cmd, false);
+        }
 
         if (notify) {
             NotificationUtil.sendNotification(
@@ -791,19 +865,28 @@ public class WorldWipeDashboardUI extends InteractiveCustomUIPage<WorldWipeDashb
     private void refreshDashboard(boolean rebuildList) {
         UICommandBuilder cmd = new UICommandBuilder();
         UIEventBuilder evt = new UIEventBuilder();
+        DashboardViewModel view = view();
         if (rebuildList) {
             buildScheduleDropdownEntries(cmd);
-            buildScheduledWorldList(cmd, evt);
-            buildProtectedWorldLists(cmd, evt);
-            buildForceWorldList(cmd, evt);
-            applyInitialState(cmd);
-            this.sendUpdate(cmd, evt, false);
+            buildScheduledWorldList(cmd, evt, view);
+            buildProtectedWorldLists(cmd, evt, view);
+            buildForceWorldList(cmd, evt, view);
+            applyInitialState(cmd, view);
+            if (shadow.takeChanges()) {
+                this.sendUpdate(cmd, evt, false);
+            }
         } else {
-            applyInitialState(cmd);
-            this.sendUpdate(cmd, false);
+            applyInitialState(cmd, view);
+            if (shadow.takeChanges()) {
+                this.sendUpdate(cmd, false);
+            }
         }
     }
 
+    private DashboardViewModel view() {
+        return DashboardViewModel.current(WorldWipePlugin.getInstance());
+    }
+
     private void seedDefaults() {
         pendingMode = DEFAULT_MODE;
         pendingDay = DEFAULT_DAY.name();
@@ -825,70 +908,64 @@ public class WorldWipeDashboardUI extends InteractiveCustomUIPage<WorldWipeDashb
 
         pendingRegenerate = plugin.isRegenerateOnWipe(world);
 
-        for (WorldWipePlugin.WorldSchedule schedule : plugin.getWorldSchedules()) {
-            if (schedule == null || schedule.world() == null) {
-                continue;
-            }
-            if (schedule.world().equalsIgnoreCase(world)) {
-                pendingMode = schedule.mode() != null ? schedule.mode().name() : DEFAULT_MODE;
-                pendingDay = schedule.day().name();
-                pendingDayOfMonth = String.valueOf(schedule.dayOfMonth());
-                pendingTime = schedule.time().toString();
-                ZoneId zone = schedule.zone();
-                if (zone == null || zone.equals(ZoneId.systemDefault())) {
-                    pendingZone = DEFAULT_ZONE;
-                } else {
-                    pendingZone = zone.getId();
-                }
-                break;
+        WorldWipePlugin.WorldSchedule schedule = DashboardViewModel.current(plugin).schedule(world);
+        if (schedule != null) {
+            pendingMode = schedule.mode() != null ? schedule.mode().name() : DEFAULT_MODE;
+            pendingDay = schedule.day().name();
+            pendingDayOfMonth = String.valueOf(schedule.dayOfMonth());
+            pendingTime = schedule.time().toString();
+            ZoneId zone = schedule.zone();
+            if (zone == null || zone.equals(ZoneId.systemDefault())) {
+                pendingZone = DEFAULT_ZONE;
+            } else {
+                pendingZone = zone.getId();
             }
         }
     }
 
-    private void applyInitialState(UICommandBuilder cmd) {
-        WorldWipePlugin plugin = WorldWipePlugin.getInstance();
-        if (plugin != null) {
-            cmd.set("#StatusText.Text", buildNextWipeText(plugin));
-            cmd.set("#ScheduleSummary.Text", buildSummaryText(plugin));
-            cmd.set("#SchedulingStatus.Text", buildSchedulingStatus(plugin));
-            cmd.set("#ToggleScheduleButton.Text", plugin.isSchedulingEnabled() ? "Disable" : "Enable");
-            cmd.set("#ProtectedSummaryText.Text", buildProtectedSummary(plugin));
-            cmd.set("#StatusDetailsText.Text", buildStatusDetails(plugin, selectedWorld));
+    private void applyInitialState(UICommandBuilder cmd, DashboardViewModel view) {
+        if (view.available) {
+            shadow.set(cmd, "#StatusText.Text", view.nextWipeText);
+            shadow.set(cmd, "#ScheduleSummary.Text", view.summaryText);
+            shadow.set(cmd, "#SchedulingStatus.Text", view.schedulingStatus);
+            shadow.set(cmd, "#ToggleScheduleButton.Text", view.schedulingEnabled ? "Disable" : "Enable");
+            shadow.set(cmd, "#ProtectedSummaryText.Text", view.protectedSummary);
+            shadow.set(cmd, "#StatusDetailsText.Text", buildStatusDetails(view, selectedWorld));
         }
 
         boolean isAdmin = hasAdminPermission();
-        boolean canViewSchedules = canViewAnySchedule(loadVisibleScheduleWorlds());
+        boolean canViewSchedules = canViewAnySchedule(visibleScheduleWorlds(view));
         if (!isAdmin) {
             currentView = canViewSchedules ? VIEW_SCHEDULE_LIST : VIEW_STATUS;
         }
 
-        cmd.set("#RefreshButton.Visible", isAdmin);
-        cmd.set("#ToggleScheduleButton.Visible", isAdmin);
-        cmd.set("#NavProtected.Visible", isAdmin);
-        cmd.set("#NavForce.Visible", isAdmin);
-        cmd.set("#NavSchedules.Visible", isAdmin);
-        cmd.set("#NavStatus.Visible", isAdmin);
-        cmd.set("#ProtectedAddButton.Visible", isAdmin);
-        cmd.set("#ProtectedRemoveButton.Visible", isAdmin);
-        cmd.set("#ForceWipeButton.Visible", isAdmin);
-        cmd.set("#ScheduleListHint.Text", isAdmin
+        shadow.set(cmd, "#RefreshButton.Visible", isAdmin);
+        shadow.set(cmd, "#ToggleScheduleButton.Visible", isAdmin);
+        shadow.set(cmd, "#NavProtected.Visible", isAdmin);
+        shadow.set(cmd, "#NavForce.Visible", isAdmin);
+        shadow.set(cmd, "#NavSchedules.Visible", isAdmin);
+        shadow.set(cmd, "#NavStatus.Visible", isAdmin);
+        shadow.set(cmd, "#ProtectedAddButton.Visible", isAdmin);
+        shadow.set(cmd, "#ProtectedRemoveButton.Visible", isAdmin);
+        shadow.set(cmd, "#ForceWipeButton.Visible", isAdmin);
+        shadow.set(cmd, "#ScheduleListHint.Text", isAdmin
                 ? "Select a world to view or edit a schedule."
                 : "Scheduled worlds (read-only).");
 
         String selectedLabel = selectedWorld != null ? selectedWorld : "none";
-        cmd.set("#ScheduleWorldLabel.Text", "World: " + selectedLabel);
+        shadow.set(cmd, "#ScheduleWorldLabel.Text", "World: " + selectedLabel);
         String forceLabel = forceWorld != null ? forceWorld : "none";
-        cmd.set("#ForceWorldLabel.Text", "Target: " + forceLabel);
-        cmd.set("#CurrentScheduleLabel.Text", buildCurrentScheduleText(plugin, selectedWorld));
-        cmd.set("#CreateWorldInput.Value", pendingCreateWorld != null ? pendingCreateWorld : "");
-        cmd.set("#CreateWorldInput.Visible", isAdmin);
-        cmd.set("#CreateWorldButton.Visible", isAdmin);
-        cmd.set("#CreateWorldRow.Visible", isAdmin);
-        cmd.set("#ApplyButton.Visible", isAdmin);
-        cmd.set("#RemoveButton.Visible", isAdmin);
-        cmd.set("#RegenerateCheck.Visible", isAdmin);
-        cmd.set("#RegenRow.Visible", isAdmin);
-        cmd.set("#RegenerateCheck.Value", pendingRegenerate != null && pendingRegenerate);
+        shadow.set(cmd, "#ForceWorldLabel.Text", "Target: " + forceLabel);
+        shadow.set(cmd, "#CurrentScheduleLabel.Text", buildCurrentScheduleText(view, selectedWorld));
+        shadow.set(cmd, "#CreateWorldInput.Value", pendingCreateWorld != null ? pendingCreateWorld : "");
+        shadow.set(cmd, "#CreateWorldInput.Visible", isAdmin);
+        shadow.set(cmd, "#CreateWorldButton.Visible", isAdmin);
+        shadow.set(cmd, "#CreateWorldRow.Visible", isAdmin);
+        shadow.set(cmd, "#ApplyButton.Visible", isAdmin);
+        shadow.set(cmd, "#RemoveButton.Visible", isAdmin);
+        shadow.set(cmd, "#RegenerateCheck.Visible", isAdmin);
+        shadow.set(cmd, "#RegenRow.Visible", isAdmin);
+        shadow.set(cmd, "#RegenerateCheck.Value", pendingRegenerate != null && pendingRegenerate);
 
         applyScheduleSelectionState(cmd);
         applyViewState(cmd);
@@ -896,12 +973,12 @@ public class WorldWipeDashboardUI extends InteractiveCustomUIPage<WorldWipeDashb
 
     private void applyViewState(UICommandBuilder cmd) {
         boolean isAdmin = hasAdminPermission();
-        cmd.set("#HomeView.Visible", VIEW_HOME.equals(currentView));
-        cmd.set("#ScheduleListView.Visible", VIEW_SCHEDULE_LIST.equals(currentView));
-        cmd.set("#ScheduleEditorView.Visible", VIEW_SCHEDULE_EDITOR.equals(currentView) && isAdmin);
-        cmd.set("#ProtectedView.Visible", VIEW_PROTECTED.equals(currentView));
-        cmd.set("#ForceView.Visible", VIEW_FORCE.equals(currentView));
-        cmd.set("#StatusView.Visible", VIEW_STATUS.equals(currentView));
+        shadow.set(cmd, "#HomeView.Visible", VIEW_HOME.equals(currentView));
+        shadow.set(cmd, "#ScheduleListView.Visible", VIEW_SCHEDULE_LIST.equals(currentView));
+        shadow.set(cmd, "#ScheduleEditorView.Visible", VIEW_SCHEDULE_EDITOR.equals(currentView) && isAdmin);
+        shadow.set(cmd, "#ProtectedView.Visible", VIEW_PROTECTED.equals(currentView));
+        shadow.set(cmd, "#ForceView.Visible", VIEW_FORCE.equals(currentView));
+        shadow.set(cmd, "#StatusView.Visible", VIEW_STATUS.equals(currentView));
     }
 
     private void buildScheduleDropdownEntries(UICommandBuilder cmd) {
@@ -911,11 +988,18 @@ public class WorldWipeDashboardUI extends InteractiveCustomUIPage<WorldWipeDashb
         List<String> timeOptions = mergeOption(TIME_OPTIONS, pendingTime);
         List<String> zoneOptions = mergeOption(ZONE_OPTIONS, pendingZone);
 
-        cmd.set("#ModeDropdown.Entries", buildDropdownEntries(modeOptions));
-        cmd.set("#DayDropdown.Entries", buildDropdownEntries(dayOptions));
-        cmd.set("#DateDropdown.Entries", buildDropdownEntries(dateOptions));
-        cmd.set("#TimeDropdown.Entries", buildDropdownEntries(timeOptions));
-        cmd.set("#ZoneDropdown.Entries", buildDropdownEntries(zoneOptions));
+        setDropdownEntries(cmd, "#ModeDropdown.Entries", modeOptions);
+        setDropdownEntries(cmd, "#DayDropdown.Entries", dayOptions);
+        setDropdownEntries(cmd, "#DateDropdown.Entries", dateOptions);
+        setDropdownEntries(cmd, "#TimeDropdown.Entries", timeOptions);
+        setDropdownEntries(cmd, "#ZoneDropdown.Entries", zoneOptions);
+    }
+
+    private void setDropdownEntries(UICommandBuilder cmd, String selector, List<String> options) {
+        if (shadow.changed(selector, options)) {
+            List<DropdownEntryInfo> entries = OPTION_ENTRIES.get(options);
+            cmd.set(selector, entries != null ? entries : buildDropdownEntries(options));
+        }
     }
 
     private void applyScheduleSelectionState(UICommandBuilder cmd) {
@@ -931,349 +1015,158 @@ public class WorldWipeDashboardUI extends InteractiveCustomUIPage<WorldWipeDashb
         pendingTime = time;
         pendingZone = zone;
 
-        cmd.set("#ModeDropdown.Value", mode);
-        cmd.set("#DayDropdown.Value", day);
-        cmd.set("#DateDropdown.Value", dayOfMonth);
-        cmd.set("#TimeDropdown.Value", time);
-        cmd.set("#ZoneDropdown.Value", zone);
+        shadow.set(cmd, "#ModeDropdown.Value", mode);
+        shadow.set(cmd, "#DayDropdown.Value", day);
+        shadow.set(cmd, "#DateDropdown.Value", dayOfMonth);
+        shadow.set(cmd, "#TimeDropdown.Value", time);
+        shadow.set(cmd, "#ZoneDropdown.Value", zone);
 
         boolean isDaily = "DAILY".equalsIgnoreCase(mode);
         boolean isMonthly = "MONTHLY".equalsIgnoreCase(mode);
-        cmd.set("#DayRow.Visible", !isDaily && !isMonthly);
-        cmd.set("#DateRow.Visible", isMonthly);
-        cmd.set("#DateHint.Visible", isMonthly);
+        shadow.set(cmd, "#DayRow.Visible", !isDaily && !isMonthly);
+        shadow.set(cmd, "#DateRow.Visible", isMonthly);
+        shadow.set(cmd, "#DateHint.Visible", isMonthly);
     }
 
-    private void buildScheduledWorldList(UICommandBuilder cmd, UIEventBuilder evt) {
-        List<String> loadedWorlds = loadLoadedWorldNames();
-        WorldWipePlugin plugin = WorldWipePlugin.getInstance();
-        List<String> protectedWorlds = plugin != null ? plugin.getProtectedWorlds() : List.of();
-
-        LinkedHashSet<String> allWorlds = new LinkedHashSet<>(loadedWorlds);
-        if (plugin != null) {
-            for (WorldWipePlugin.WorldSchedule schedule : plugin.getWorldSchedules()) {
-                if (schedule != null && schedule.world() != null && !schedule.world().isBlank()) {
-                    allWorlds.add(schedule.world());
-                }
-            }
-        }
+    private void buildScheduledWorldList(UICommandBuilder cmd, UIEventBuilder evt, DashboardViewModel view) {
+        List<String> visibleWorlds = visibleScheduleWorlds(view);
 
-        List<String> visibleWorlds = new ArrayList<>();
-        for (String world : allWorlds) {
-            if (!isProtectedWorld(world, protectedWorlds)) {
-                if (canViewScheduleWorld(world)) {
-                    visibleWorlds.add(world);
-                }
-            }
-        }
-
-        if (selectedWorld != null && resolveWorldName(visibleWorlds, selectedWorld) == null) {
+        if (selectedWorld != null && (!view.isScheduleWorld(selectedWorld) || !canViewScheduleWorld(selectedWorld))) {
             selectedWorld = visibleWorlds.isEmpty() ? null : visibleWorlds.get(0);
             seedScheduleForWorld(selectedWorld);
         }
 
-        cmd.clear("#ScheduledWorldList");
-        cmd.set("#ScheduledWorldListEmpty.Visible", visibleWorlds.isEmpty());
-
-        Universe universe = Universe.get();
+        shadow.set(cmd, "#ScheduledWorldListEmpty.Visible", visibleWorlds.isEmpty());
 
         boolean isAdmin = hasAdminPermission();
-        String itemTemplate = isAdmin ? WORLD_LIST_ITEM : WORLD_LIST_LABEL;
-        for (int i = 0; i < visibleWorlds.size(); i++) {
-            String world = visibleWorlds.get(i);
-            String entry = "#ScheduledWorldList[" + i + "]";
-            cmd.append("#ScheduledWorldList", itemTemplate);
-            String label = buildScheduleListLabel(plugin, world);
-            if (universe != null) {
-                boolean loaded = resolveWorldName(loadedWorlds, world) != null;
-                boolean loadable = universe.isWorldLoadable(world);
-                if (!loaded && !loadable) {
-                    label = label + " (missing)";
-                }
-            }
+        List<String> shown = schedulePager.window(visibleWorlds, selectedWorld, view.pageSize);
+        List<DashboardShadow.Row> rows = new ArrayList<>(shown.size());
+        for (int i = 0; i < shown.size(); i++) {
+            String world = shown.get(i);
+            String label = view.scheduleListLabel(world);
             if (isAdmin && world.equalsIgnoreCase(selectedWorld)) {
                 label = "> " + label;
             }
-            if (isAdmin) {
-                cmd.set(entry + " #Button.Text", label);
-            } else {
-                cmd.set(entry + " #Label.Text", label);
-            }
-            if (isAdmin) {
-                evt.addEventBinding(
-                        CustomUIEventBindingType.Activating,
-                        entry + " #Button",
-                        new EventData().append("Action", "selectScheduleWorld").append("Value", world),
-                        false
-                );
-            }
+            rows.add(isAdmin
+                    ? buttonRow(label, "selectScheduleWorld", i)
+                    : new DashboardShadow.Row(WORLD_LIST_LABEL, "#Label", label, null, null));
         }
+        shadow.list(cmd, evt, "#ScheduledWorldList", rows);
+        applyPager(cmd, "#ScheduledWorld", schedulePager);
     }
 
-    private void buildProtectedWorldLists(UICommandBuilder cmd, UIEventBuilder evt) {
+    private void buildProtectedWorldLists(UICommandBuilder cmd, UIEventBuilder evt, DashboardViewModel view) {
         if (!hasAdminPermission()) {
-            cmd.clear("#ProtectedWorldList");
-            cmd.clear("#ProtectedCurrentList");
-            cmd.set("#ProtectedWorldListEmpty.Visible", true);
-            cmd.set("#ProtectedCurrentListEmpty.Visible", true);
+            shadow.list(cmd, evt, "#ProtectedWorldList", List.of());
+            shadow.list(cmd, evt, "#ProtectedCurrentList", List.of());
+            shadow.set(cmd, "#ProtectedWorldListEmpty.Visible", true);
+            shadow.set(cmd, "#ProtectedCurrentListEmpty.Visible", true);
+            shadow.set(cmd, "#ProtectedWorldPager.Visible", false);
+            shadow.set(cmd, "#ProtectedCurrentPager.Visible", false);
             protectedAddWorld = null;
             protectedRemoveWorld = null;
             return;
         }
-        List<String> loaded = loadLoadedWorldNames();
-        WorldWipePlugin plugin = WorldWipePlugin.getInstance();
-        List<String> protectedWorlds = plugin != null ? plugin.getProtectedWorlds() : List.of();
-        List<String> protectedList = new ArrayList<>();
-
-        for (String world : protectedWorlds) {
-            if (world != null && !world.isBlank()) {
-                protectedList.add(world);
-            }
-        }
+        List<String> loaded = view.loadedWorlds;
+        List<String> protectedList = view.protectedWorlds;
 
-        if (protectedAddWorld == null || resolveWorldName(loaded, protectedAddWorld) == null) {
+        if (protectedAddWorld == null || !view.isLoaded(protectedAddWorld)) {
             protectedAddWorld = loaded.isEmpty() ? null : loaded.get(0);
         }
 
-        cmd.clear("#ProtectedWorldList");
-        cmd.set("#ProtectedWorldListEmpty.Visible", loaded.isEmpty());
-
-        for (int i = 0; i < loaded.size(); i++) {
-            String world = loaded.get(i);
-            String entry = "#ProtectedWorldList[" + i + "]";
-            cmd.append("#ProtectedWorldList", WORLD_LIST_ITEM);
-            String label = world.equalsIgnoreCase(protectedAddWorld) ? "> " + world : world;
-            cmd.set(entry + " #Button.Text", label);
-            evt.addEventBinding(
-                    CustomUIEventBindingType.Activating,
-                    entry + " #Button",
-                    new EventData().append("Action", "selectProtectedAddWorld").append("Value", world),
-                    false
-            );
-        }
+        shadow.set(cmd, "#ProtectedWorldListEmpty.Visible", loaded.isEmpty());
+        List<String> addShown = protectedAddPager.window(loaded, protectedAddWorld, view.pageSize);
+        shadow.list(cmd, evt, "#ProtectedWorldList", selectionRows(addShown, protectedAddWorld, "selectProtectedAddWorld"));
+        applyPager(cmd, "#ProtectedWorld", protectedAddPager);
 
-        if (protectedRemoveWorld == null || resolveWorldName(protectedList, protectedRemoveWorld) == null) {
+        if (protectedRemoveWorld == null || !view.isProtected(protectedRemoveWorld)) {
             protectedRemoveWorld = protectedList.isEmpty() ? null : protectedList.get(0);
         }
 
-        cmd.clear("#ProtectedCurrentList");
-        cmd.set("#ProtectedCurrentListEmpty.Visible", protectedList.isEmpty());
-
-        for (int i = 0; i < protectedList.size(); i++) {
-            String world = protectedList.get(i);
-            String entry = "#ProtectedCurrentList[" + i + "]";
-            cmd.append("#ProtectedCurrentList", WORLD_LIST_ITEM);
-            String label = world.equalsIgnoreCase(protectedRemoveWorld) ? "> " + world : world;
-            cmd.set(entry + " #Button.Text", label);
-            evt.addEventBinding(
-                    CustomUIEventBindingType.Activating,
-                    entry + " #Button",
-                    new EventData().append("Action", "selectProtectedRemoveWorld").append("Value", world),
-                    false
-            );
-        }
+        shadow.set(cmd, "#ProtectedCurrentListEmpty.Visible", protectedList.isEmpty());
+        List<String> removeShown = protectedRemovePager.window(protectedList, protectedRemoveWorld, view.pageSize);
+        shadow.list(
+                cmd,
+                evt,
+                "#ProtectedCurrentList",
+                selectionRows(removeShown, protectedRemoveWorld, "selectProtectedRemoveWorld")
+        );
+        applyPager(cmd, "#ProtectedCurrent", protectedRemovePager);
     }
 
-    private void buildForceWorldList(UICommandBuilder cmd, UIEventBuilder evt) {
+    private void buildForceWorldList(UICommandBuilder cmd, UIEventBuilder evt, DashboardViewModel view) {
         if (!hasAdminPermission()) {
-            cmd.clear("#ForceWorldList");
-            cmd.set("#ForceWorldListEmpty.Visible", true);
+            shadow.list(cmd, evt, "#ForceWorldList", List.of());
+            shadow.set(cmd, "#ForceWorldListEmpty.Visible", true);
+            shadow.set(cmd, "#ForceWorldPager.Visible", false);
             forceWorld = null;
             return;
         }
-        List<String> loaded = loadLoadedWorldNames();
-        WorldWipePlugin plugin = WorldWipePlugin.getInstance();
-        List<String> protectedWorlds = plugin != null ? plugin.getProtectedWorlds() : List.of();
-        List<String> worlds = new ArrayList<>();
-        for (String name : loaded) {
-            if (name != null && !isProtectedWorld(name, protectedWorlds)) {
-                worlds.add(name);
-            }
-        }
+        List<String> worlds = view.forceWorlds;
 
-        if (forceWorld == null || resolveWorldName(worlds, forceWorld) == null) {
+        if (forceWorld == null || !view.isForceWorld(forceWorld)) {
             forceWorld = worlds.isEmpty() ? null : worlds.get(0);
         }
 
-        cmd.clear("#ForceWorldList");
-        cmd.set("#ForceWorldListEmpty.Visible", worlds.isEmpty());
+        shadow.set(cmd, "#ForceWorldListEmpty.Visible", worlds.isEmpty());
+        List<String> shown = forcePager.window(worlds, forceWorld, view.pageSize);
+        shadow.list(cmd, evt, "#ForceWorldList", selectionRows(shown, forceWorld, "selectForceWorld"));
+        applyPager(cmd, "#ForceWorld", forcePager);
+    }
+
+    private void applyPager(UICommandBuilder cmd, String prefix, DashboardPager pager) {
+        shadow.set(cmd, prefix + "Pager.Visible", pager.paged());
+        shadow.set(cmd, prefix + "Page.Text", pager.label());
+    }
 
+    private static List<DashboardShadow.Row> selectionRows(List<String> worlds, String selected, String action) {
+        List<DashboardShadow.Row> rows = new ArrayList<>(worlds.size());
         for (int i = 0; i < worlds.size(); i++) {
             String world = worlds.get(i);
-            String entry = "#ForceWorldList[" + i + "]";
-            cmd.append("#ForceWorldList", WORLD_LIST_ITEM);
-            String label = world.equalsIgnoreCase(forceWorld) ? "> " + world : world;
-            cmd.set(entry + " #Button.Text", label);
-            evt.addEventBinding(
-                    CustomUIEventBindingType.Activating,
-                    entry + " #Button",
-                    new EventData().append("Action", "selectForceWorld").append("Value", world),
-                    false
-            );
+            rows.add(buttonRow(world.equalsIgnoreCase(selected) ? "> " + world : world, action, i));
         }
+        return rows;
     }
 
-    private List<String> loadLoadedWorldNames() {
-        Set<String> names = new LinkedHashSet<>();
-        Universe universe = Universe.get();
-
-        for (String name : universe.getWorlds().keySet()) {
-            if (name != null && !name.isBlank()) {
-                names.add(name);
-            }
-        }
-
-        return new ArrayList<>(names);
+    private static DashboardShadow.Row buttonRow(String label, String action, int slot) {
+        return new DashboardShadow.Row(WORLD_LIST_ITEM, "#Button", label, action, String.valueOf(slot));
     }
 
-    private List<String> loadVisibleScheduleWorlds() {
-        List<String> loaded = loadLoadedWorldNames();
-        WorldWipePlugin plugin = WorldWipePlugin.getInstance();
-        List<String> protectedWorlds = plugin != null ? plugin.getProtectedWorlds() : List.of();
-
-        LinkedHashSet<String> allWorlds = new LinkedHashSet<>(loaded);
-        if (plugin != null) {
-            for (WorldWipePlugin.WorldSchedule schedule : plugin.getWorldSchedules()) {
-                if (schedule != null && schedule.world() != null && !schedule.world().isBlank()) {
-                    allWorlds.add(schedule.world());
-                }
-            }
+    private List<String> visibleScheduleWorlds(DashboardViewModel view) {
+        if (hasAdminPermission()) {
+            return view.scheduleWorlds;
         }
-
         List<String> visibleWorlds = new ArrayList<>();
-        for (String world : allWorlds) {
-            if (!isProtectedWorld(world, protectedWorlds) && canViewScheduleWorld(world)) {
+        for (String world : view.scheduleWorlds) {
+            if (canViewScheduleWorld(world)) {
                 visibleWorlds.add(world);
             }
         }
         return visibleWorlds;
     }
 
-    private String resolveWorldName(List<String> worlds, String selected) {
-        if (worlds == null || selected == null) {
-            return null;
-        }
-        for (String name : worlds) {
-            if (name != null && name.equalsIgnoreCase(selected)) {
-                return name;
-            }
-        }
-        return null;
-    }
-
-    private String buildSummaryText(WorldWipePlugin plugin) {
-        List<String> protectedWorlds = plugin.getProtectedWorlds();
-        String protectedLabel = protectedWorlds.isEmpty()
-                ? "none"
-                : String.join(", ", protectedWorlds);
-
-        Instant next = plugin.getNextScheduledWipeAt();
-        if (next == null) {
-            return "Protected worlds: " + protectedLabel + " | Next wipe: not scheduled";
-        }
-
-        ZonedDateTime nextZoned = ZonedDateTime.ofInstant(next, ZoneId.systemDefault());
-        List<String> nextWorlds = plugin.getNextScheduledWorlds();
-        String nextLabel = nextWorlds.isEmpty() ? "none" : String.join(", ", nextWorlds);
-
-        return "Protected worlds: " + protectedLabel + " | Next: " + nextZoned + " (" + nextLabel + ")";
-    }
-
-    private String buildNextWipeText(WorldWipePlugin plugin) {
-        if (!plugin.isSchedulingEnabled()) {
-            return "Scheduling disabled";
-        }
-        Instant next = plugin.getNextScheduledWipeAt();
-        if (next == null) {
-            return "Next wipe: Not scheduled";
-        }
-        ZonedDateTime nextZoned = ZonedDateTime.ofInstant(next, ZoneId.systemDefault());
-        List<String> nextWorlds = plugin.getNextScheduledWorlds();
-        String nextLabel = nextWorlds.isEmpty() ? "none" : String.join(", ", nextWorlds);
-        return "Next wipe: " + nextZoned + " (" + nextLabel + ")";
-    }
-
-    private String buildSchedulingStatus(WorldWipePlugin plugin) {
-        return plugin.isSchedulingEnabled() ? "Scheduling: Enabled" : "Scheduling: Disabled";
-    }
-
-    private String buildProtectedSummary(WorldWipePlugin plugin) {
-        List<String> protectedWorlds = plugin.getProtectedWorlds();
-        String label = protectedWorlds.isEmpty() ? "none" : String.join(", ", protectedWorlds);
-        return "Protected worlds: " + label;
-    }
-
-    private String buildStatusDetails(WorldWipePlugin plugin, String worldName) {
-        String scheduling = buildSchedulingStatus(plugin);
-        String globalRegen = plugin.isRegenerateOnWipe()
-                ? "Regen (global): enabled"
-                : "Regen (global): disabled";
+    private String buildStatusDetails(DashboardViewModel view, String worldName) {
         String worldRegen = "";
         if (worldName != null) {
-            worldRegen = plugin.isRegenerateOnWipe(worldName)
+            worldRegen = view.isRegenerateOnWipe(worldName)
                     ? " | Regen (" + worldName + "): enabled"
                     : " | Regen (" + worldName + "): disabled";
         }
-        Instant next = plugin.getNextScheduledWipeAt();
-        String nextLabel = next == null ? "Next wipe: not scheduled"
-                : "Next wipe: " + ZonedDateTime.ofInstant(next, ZoneId.systemDefault());
-        return scheduling + " | " + globalRegen + worldRegen + " | " + nextLabel;
+        return view.statusDetailsPrefix + worldRegen + " | " + view.nextWipeLabel;
     }
 
-    private String buildCurrentScheduleText(WorldWipePlugin plugin, String worldName) {
-        if (worldName == null || plugin == null) {
+    private String buildCurrentScheduleText(DashboardViewModel view, String worldName) {
+        if (worldName == null || !view.available) {
             return "Current: select a world";
         }
-        for (WorldWipePlugin.WorldSchedule schedule : plugin.getWorldSchedules()) {
-            if (schedule == null || schedule.world() == null) {
-                continue;
-            }
-            if (schedule.world().equalsIgnoreCase(worldName)) {
-                String zoneLabel = schedule.zone() == null
-                        ? DEFAULT_ZONE
-                        : schedule.zone().getId();
-                return "Current: " + formatScheduleLabel(schedule, zoneLabel);
-            }
+        String label = view.scheduleLabel(worldName);
+        if (label != null) {
+            return "Current: " + label;
         }
         return "Current: not scheduled (defaults: " + DEFAULT_MODE + " " + DEFAULT_DAY + " "
                 + DEFAULT_TIME + " " + DEFAULT_ZONE + ")";
     }
 
-    private String buildScheduleListLabel(WorldWipePlugin plugin, String worldName) {
-        if (worldName == null || plugin == null) {
-            return worldName;
-        }
-        for (WorldWipePlugin.WorldSchedule schedule : plugin.getWorldSchedules()) {
-            if (schedule == null || schedule.world() == null) {
-                continue;
-            }
-            if (schedule.world().equalsIgnoreCase(worldName)) {
-                String zoneLabel = schedule.zone() == null
-                        ? DEFAULT_ZONE
-                        : schedule.zone().getId();
-                return worldName + " - " + formatScheduleLabel(schedule, zoneLabel);
-            }
-        }
-        return worldName + " - not scheduled";
-    }
-
-    private String formatScheduleLabel(WorldWipePlugin.WorldSchedule schedule, String zoneLabel) {
-        if (schedule == null) {
-            return "not scheduled";
-        }
-        WorldWipePlugin.ScheduleMode mode = schedule.mode() != null
-                ? schedule.mode()
-                : WorldWipePlugin.ScheduleMode.WEEKLY;
-        String time = schedule.time() != null ? schedule.time().toString() : DEFAULT_TIME.toString();
-        String zone = zoneLabel != null ? zoneLabel : DEFAULT_ZONE;
-
-        return switch (mode) {
-            case DAILY -> "Daily " + time + " (" + zone + ")";
-            case MONTHLY -> "Monthly " + schedule.dayOfMonth() + " " + time + " (" + zone + ")";
-            case WEEKLY -> schedule.day().name() + " " + time + " (" + zone + ")";
-        };
-    }
-
     private static List<String> buildDayOptions() {
         List<String> options = new ArrayList<>();
         for (DayOfWeek day : DayOfWeek.values()) {
@@ -1399,18 +1292,6 @@ public class WorldWipeDashboardUI extends InteractiveCustomUIPage<WorldWipeDashb
         return null;
     }
 
-    private static boolean isProtectedWorld(String worldName, List<String> protectedWorlds) {
-        if (worldName == null || protectedWorlds == null || protectedWorlds.isEmpty()) {
-            return false;
-        }
-        for (String protectedWorld : protectedWorlds) {
-            if (protectedWorld != null && worldName.equalsIgnoreCase(protectedWorld)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
     private static List<String> mergeOption(List<String> base, String value) {
         if (base == null) {
             return List.of();
@@ -3,28 +3,50 @@ package no.sdev.worldwipe.world;
 import com.hypixel.hytale.math.vector.Transform;
 import com.hypixel.hytale.server.core.modules.entity.teleport.Teleport;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.Universe;
 import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.WorldConfig;
 import com.hypixel.hytale.server.core.universe.world.spawn.ISpawnProvider;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 public final class HytalePlayerTransferService implements PlayerTransferService {
 
+    private static final long CONFIRM_POLL_MILLIS = 100L;
+    private static final ScheduledExecutorService CONFIRM_EXECUTOR = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "WorldWipe-TransferConfirm");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     @Override
-    public int transferPlayers(
+    public CompletableFuture<TransferReport> transferPlayers(
             World fromWorld,
             World toWorld,
-            Collection<PlayerRef> players
+            Collection<PlayerRef> players,
+            Duration timeout
     ) {
         if (fromWorld == null || toWorld == null || players == null || players.isEmpty()) {
-            return 0;
+            return CompletableFuture.completedFuture(
+                    new TransferReport(0, 0, 0, 0, new TeleportLatencyHistogram(), List.of())
+            );
         }
 
         WorldConfig worldConfig = toWorld.getWorldConfig();
         ISpawnProvider spawnProvider = worldConfig != null ? worldConfig.getSpawnProvider() : null;
 
-        int moved = 0;
+        Set<PlayerRef> pending = new LinkedHashSet<>();
 
         for (PlayerRef playerRef : players) {
             if (playerRef == null) {
@@ -50,9 +72,84 @@ public final class HytalePlayerTransferService implements PlayerTransferService
                 store.addComponent(ref, Teleport.getComponentType(), teleport);
             });
 
-            moved++;
+            pending.add(playerRef);
         }
 
-        return moved;
+        long timeoutMillis = timeout != null ? Math.max(0L, timeout.toMillis()) : 0L;
+        TransferTracker tracker = new TransferTracker(toWorld, pending, timeoutMillis);
+        tracker.poll();
+        return tracker.future;
+    }
+
+    private static final class TransferTracker {
+
+        private final World toWorld;
+        private final Set<PlayerRef> pending;
+        private final int requested;
+        private final long startedNanos = System.nanoTime();
+        private final long timeoutMillis;
+        private final TeleportLatencyHistogram latency = new TeleportLatencyHistogram();
+        private final CompletableFuture<TransferReport> future = new CompletableFuture<>();
+        private final List<PlayerRef> confirmed = new ArrayList<>();
+        private int disconnected;
+
+        private TransferTracker(World toWorld, Set<PlayerRef> pending, long timeoutMillis) {
+            this.toWorld = toWorld;
+            this.pending = pending;
+            this.requested = pending.size();
+            this.timeoutMillis = timeoutMillis;
+        }
+
+        private void poll() {
+            try {
+                CONFIRM_EXECUTOR.schedule(this::check, CONFIRM_POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        }
+
+        private void check() {
+            try {
+                confirmArrivals();
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        }
+
+        private void confirmArrivals() {
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedNanos);
+            Universe universe = Universe.get();
+
+            Iterator<PlayerRef> iterator = pending.iterator();
+            while (iterator.hasNext()) {
+                PlayerRef playerRef = iterator.next();
+                if (universe != null && isIn(universe, playerRef, toWorld)) {
+                    iterator.remove();
+                    latency.record(elapsedMillis);
+                    confirmed.add(playerRef);
+                } else if (universe != null && universe.getPlayer(playerRef.getUuid()) == null) {
+                    iterator.remove();
+                    disconnected++;
+                }
+            }
+
+            if (pending.isEmpty() || elapsedMillis >= timeoutMillis) {
+                future.complete(new TransferReport(
+                        requested,
+                        confirmed.size(),
+                        disconnected,
+                        pending.size(),
+                        latency,
+                        List.copyOf(confirmed)
+                ));
+                return;
+            }
+            poll();
+        }
+
+        private static boolean isIn(Universe universe, PlayerRef playerRef, World world) {
+            UUID worldId = playerRef.getWorldUuid();
+            return worldId != null && universe.getWorld(worldId) == world;
+        }
     }
 }
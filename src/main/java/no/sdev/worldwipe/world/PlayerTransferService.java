@@ -3,13 +3,27 @@ package no.sdev.worldwipe.world;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.server.core.universe.world.World;
 
+import java.time.Duration;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public interface PlayerTransferService {
 
-    int transferPlayers(
+    CompletableFuture<TransferReport> transferPlayers(
             World fromWorld,
             World toWorld,
-            Collection<PlayerRef> players
+            Collection<PlayerRef> players,
+            Duration timeout
     );
+
+    record TransferReport(
+            int requested,
+            int confirmed,
+            int disconnected,
+            int timedOut,
+            TeleportLatencyHistogram latency,
+            List<PlayerRef> confirmedPlayers
+    ) {
+    }
 }
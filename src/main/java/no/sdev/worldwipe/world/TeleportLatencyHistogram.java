@@ -0,0 +1,36 @@
+package no.sdev.worldwipe.world;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public final class TeleportLatencyHistogram {
+
+    private static final long[] BUCKET_UPPER_MILLIS = {50L, 100L, 250L, 500L, 1000L, 2500L, 5000L, Long.MAX_VALUE};
+    private static final String[] BUCKET_LABELS = {"<=50ms", "<=100ms", "<=250ms", "<=500ms", "<=1s", "<=2.5s", "<=5s", ">5s"};
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_UPPER_MILLIS.length);
+
+    public void record(long latencyMillis) {
+        long value = Math.max(0L, latencyMillis);
+        for (int i = 0; i < BUCKET_UPPER_MILLIS.length; i++) {
+            if (value <= BUCKET_UPPER_MILLIS[i]) {
+                counts.incrementAndGet(i);
+                return;
+            }
+        }
+    }
+
+    public String summary() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < counts.length(); i++) {
+            long count = counts.get(i);
+            if (count == 0L) {
+                continue;
+            }
+            if (builder.length() > 0) {
+                builder.append(", ");
+            }
+            builder.append(BUCKET_LABELS[i]).append('=').append(count);
+        }
+        return builder.length() == 0 ? "none" : builder.toString();
+    }
+}
@@ -0,0 +1,140 @@
+package no.sdev.worldwipe.world;
+
+import com.hypixel.hytale.protocol.packets.interface_.NotificationStyle;
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.Universe;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.util.NotificationUtil;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public final class WipeCountdownService {
+
+    private static final String CHAT_TITLE = "[WorldWipe] ";
+    private static final String COLOR_ACCENT = "#F59E0B";
+    private static final String COLOR_DIM = "#A3A3A3";
+    private static final int BROADCAST_BATCH_SIZE = 32;
+    private static final DateTimeFormatter TARGET_FORMAT =
+            DateTimeFormatter.ofPattern("HH:mm:ss z").withZone(ZoneId.systemDefault());
+
+    private final List<ScheduledFuture<?>> pendingWarnings = new ArrayList<>();
+
+    public synchronized void arm(
+            ScheduledExecutorService scheduler,
+            Instant target,
+            List<String> worlds,
+            List<Duration> warnings
+    ) {
+        Objects.requireNonNull(scheduler, "scheduler");
+        if (target == null || worlds == null || worlds.isEmpty() || warnings == null || warnings.isEmpty()) {
+            cancel();
+            return;
+        }
+        cancel();
+
+        List<String> targetWorlds = List.copyOf(worlds);
+        AtomicBoolean timerSent = new AtomicBoolean(false);
+        long now = System.currentTimeMillis();
+
+        for (Duration lead : warnings) {
+            if (lead == null || lead.isNegative() || lead.isZero()) {
+                continue;
+            }
+            long delayMillis = target.toEpochMilli() - lead.toMillis() - now;
+            if (delayMillis < 0L) {
+                continue;
+            }
+            pendingWarnings.add(scheduler.schedule(
+                    () -> broadcastWarning(target, lead, targetWorlds, timerSent),
+                    delayMillis,
+                    TimeUnit.MILLISECONDS
+            ));
+        }
+    }
+
+    public synchronized void cancel() {
+        for (ScheduledFuture<?> future : pendingWarnings) {
+            future.cancel(false);
+        }
+        pendingWarnings.clear();
+    }
+
+    private void broadcastWarning(
+            Instant target,
+            Duration lead,
+            List<String> worlds,
+            AtomicBoolean timerSent
+    ) {
+        Universe universe = Universe.get();
+        if (universe == null) {
+            return;
+        }
+
+        boolean sendTimer = !timerSent.get();
+        for (String worldName : worlds) {
+            World world = worldName != null ? universe.getWorld(worldName) : null;
+            if (world == null) {
+                continue;
+            }
+            Collection<PlayerRef> players = world.getPlayerRefs();
+            if (players == null || players.isEmpty()) {
+                continue;
+            }
+
+            Message chat = Message.raw(CHAT_TITLE).color(COLOR_ACCENT)
+                    .insert(Message.raw("'" + world.getName() + "' resets in " + formatLead(lead) + ".")
+                            .color(COLOR_DIM));
+            Message timerTitle = Message.raw("WorldWipe");
+            Message timerBody = Message.raw(
+                    "'" + world.getName() + "' resets at " + TARGET_FORMAT.format(target) + "."
+            );
+
+            List<PlayerRef> recipients = players.stream().filter(Objects::nonNull).toList();
+            for (int start = 0; start < recipients.size(); start += BROADCAST_BATCH_SIZE) {
+                List<PlayerRef> batch = recipients.subList(
+                        start,
+                        Math.min(start + BROADCAST_BATCH_SIZE, recipients.size())
+                );
+                world.execute(() -> {
+                    for (PlayerRef playerRef : batch) {
+                        playerRef.sendMessage(chat);
+                        if (sendTimer) {
+                            NotificationUtil.sendNotification(
+                                    playerRef.getPacketHandler(),
+                                    timerTitle,
+                                    timerBody,
+                                    NotificationStyle.Warning
+                            );
+                            timerSent.set(true);
+                        }
+                    }
+                });
+            }
+        }
+    }
+
+    private static String formatLead(Duration lead) {
+        long seconds = lead.toSeconds();
+        if (seconds >= 3600 && seconds % 3600 == 0) {
+            long hours = seconds / 3600;
+            return hours + (hours == 1 ? " hour" : " hours");
+        }
+        if (seconds >= 60 && seconds % 60 == 0) {
+            long minutes = seconds / 60;
+            return minutes + (minutes == 1 ? " minute" : " minutes");
+        }
+        return seconds + (seconds == 1 ? " second" : " seconds");
+    }
+}
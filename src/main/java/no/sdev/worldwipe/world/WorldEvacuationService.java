@@ -8,12 +8,19 @@ import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.util.NotificationUtil;
 
 import java.io.IOException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 public final class WorldEvacuationService {
 
@@ -23,13 +30,16 @@ public final class WorldEvacuationService {
     private static final String COLOR_ACCENT = "#F59E0B";
     private static final String COLOR_DIM = "#A3A3A3";
 
+    private static final int MESSAGE_BATCH_SIZE = 32;
+    private static final Duration EVACUATION_TIMEOUT = Duration.ofSeconds(15);
+
     private static final PlayerTransferService TRANSFER_SERVICE =
             new HytalePlayerTransferService();
 
     private WorldEvacuationService() {
     }
 
-    public static EvacuationResult evacuate(
+    public static CompletableFuture<EvacuationResult> evacuate(
             World fromWorld,
             World toWorld
     ) {
@@ -39,55 +49,57 @@ public final class WorldEvacuationService {
         Collection<PlayerRef> players = fromWorld.getPlayerRefs();
 
         if (players == null || players.isEmpty()) {
-            return new EvacuationResult(
+            return CompletableFuture.completedFuture(new EvacuationResult(
                     fromWorld.getName(),
                     toWorld.getName(),
                     0,
+                    0,
+                    0,
+                    0,
+                    new TeleportLatencyHistogram(),
+                    List.of(),
                     true,
                     "No players to evacuate"
-            );
+            ));
         }
 
-        int moved = TRANSFER_SERVICE.transferPlayers(
+        List<PlayerRef> recipients = players.stream().filter(Objects::nonNull).toList();
+        EvacuationMessages messages = EvacuationMessages.build(fromWorld.getName(), toWorld.getName());
+        dispatchMessages(fromWorld, recipients, messages);
+
+        CompletableFuture<PlayerTransferService.TransferReport> transfer = TRANSFER_SERVICE.transferPlayers(
                 fromWorld,
                 toWorld,
-                players
+                recipients,
+                EVACUATION_TIMEOUT
         );
 
-        for (PlayerRef playerRef : players) {
-            if (playerRef == null) {
-                continue;
-            }
-
-            String body = String.format(
-                    PLAYER_MOVE_MESSAGE_TEMPLATE,
-                    fromWorld.getName(),
-                    toWorld.getName(),
-                    fromWorld.getName()
-            );
-
-            sendStyledTeleportMessage(playerRef, fromWorld.getName(), toWorld.getName());
-            NotificationUtil.sendNotification(
-                    playerRef.getPacketHandler(),
-                    Message.raw("WorldWipe"),
-                    Message.raw(body),
-                    NotificationStyle.Warning
-            );
-        }
-
-        return new EvacuationResult(
+        return transfer.thenApply(report -> new EvacuationResult(
                 fromWorld.getName(),
                 toWorld.getName(),
-                moved,
-                true,
-                "Players evacuated successfully"
-        );
+                report.requested(),
+                report.confirmed(),
+                report.disconnected(),
+                report.timedOut(),
+                report.latency(),
+                report.confirmedPlayers(),
+                report.timedOut() == 0,
+                report.timedOut() == 0
+                        ? "Players evacuated successfully"
+                        : report.timedOut() + " player(s) did not arrive in '" + toWorld.getName()
+                                + "' within " + EVACUATION_TIMEOUT.toSeconds() + "s"
+        ));
     }
 
     public record EvacuationResult(
             String resettingWorld,
             String destinationWorld,
             int playersAffected,
+            int playersConfirmed,
+            int playersDisconnected,
+            int playersTimedOut,
+            TeleportLatencyHistogram latency,
+            List<PlayerRef> evacuatedPlayers,
             boolean success,
             String reason
     ) {
@@ -139,6 +151,46 @@ public final class WorldEvacuationService {
         }
     }
 
+    public static List<String> listWorldDirectories() {
+        LinkedHashSet<String> names = new LinkedHashSet<>();
+        for (Path root : worldDirectoryRoots()) {
+            if (!Files.isDirectory(root)) {
+                continue;
+            }
+            try (DirectoryStream<Path> entries = Files.newDirectoryStream(root, Files::isDirectory)) {
+                for (Path entry : entries) {
+                    names.add(entry.getFileName().toString());
+                }
+            } catch (IOException ignored) {
+            }
+        }
+        return List.copyOf(names);
+    }
+
+    public static List<FileTime> worldDirectoryStamps() {
+        List<FileTime> stamps = new ArrayList<>();
+        for (Path root : worldDirectoryRoots()) {
+            try {
+                stamps.add(Files.getLastModifiedTime(root));
+            } catch (IOException e) {
+                stamps.add(FileTime.fromMillis(0L));
+            }
+        }
+        return stamps;
+    }
+
+    private static List<Path> worldDirectoryRoots() {
+        List<Path> roots = new ArrayList<>();
+        Path base = Universe.getWorldGenPath();
+        if (base != null) {
+            roots.add(base);
+            roots.add(base.resolve("worlds"));
+        }
+        roots.add(Paths.get("universe", "worlds"));
+        roots.add(Paths.get("server", "universe", "worlds"));
+        return roots;
+    }
+
     private static Path resolveWorldRoot(String worldName) {
         if (worldName == null || worldName.isBlank()) {
             return null;
@@ -178,29 +230,61 @@ public final class WorldEvacuationService {
                 resettingWorld,
                 destinationWorld,
                 0,
+                0,
+                0,
+                0,
+                new TeleportLatencyHistogram(),
+                List.of(),
                 true,
                 "Dry-run only (no players moved)"
         );
     }
 
-    private static void sendStyledTeleportMessage(
-            PlayerRef playerRef,
-            String fromWorldName,
-            String toWorldName
+    private static void dispatchMessages(
+            World world,
+            List<PlayerRef> recipients,
+            EvacuationMessages messages
     ) {
-        if (playerRef == null) {
+        if (recipients.isEmpty()) {
             return;
         }
 
-        playerRef.sendMessage(colored(CHAT_TITLE, COLOR_ACCENT));
-        playerRef.sendMessage(colored(
-                "Teleport: " + fromWorldName + " -> " + toWorldName,
-                COLOR_DIM
-        ));
-        playerRef.sendMessage(colored(
-                "Reason: " + fromWorldName + " is resetting.",
-                COLOR_ACCENT
-        ));
+        for (int start = 0; start < recipients.size(); start += MESSAGE_BATCH_SIZE) {
+            List<PlayerRef> batch = recipients.subList(
+                    start,
+                    Math.min(start + MESSAGE_BATCH_SIZE, recipients.size())
+            );
+            world.execute(() -> {
+                for (PlayerRef playerRef : batch) {
+                    playerRef.sendMessage(messages.chat());
+                    NotificationUtil.sendNotification(
+                            playerRef.getPacketHandler(),
+                            messages.notificationTitle(),
+                            messages.notificationBody(),
+                            NotificationStyle.Warning
+                    );
+                }
+            });
+        }
+    }
+
+    private record EvacuationMessages(
+            Message chat,
+            Message notificationTitle,
+            Message notificationBody
+    ) {
+        static EvacuationMessages build(String fromWorldName, String toWorldName) {
+            Message chat = colored(CHAT_TITLE, COLOR_ACCENT)
+                    .insert(colored("\nTeleport: " + fromWorldName + " -> " + toWorldName, COLOR_DIM))
+                    .insert(colored("\nReason: " + fromWorldName + " is resetting.", COLOR_ACCENT));
+            String body = String.format(
+                    PLAYER_MOVE_MESSAGE_TEMPLATE,
+                    fromWorldName,
+                    toWorldName,
+                    fromWorldName
+            );
+            return new EvacuationMessages(chat, Message.raw("WorldWipe"), Message.raw(body));
+        }
     }
 
     private static Message colored(String text, String colorHex) {
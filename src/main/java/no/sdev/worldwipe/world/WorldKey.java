@@ -0,0 +1,67 @@
+package no.sdev.worldwipe.world;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class WorldKey {
+
+    private static final int MAX_INTERNED = 1 << 16;
+    private static final ConcurrentHashMap<String, WorldKey> INTERNED = new ConcurrentHashMap<>();
+
+    private final String value;
+    private final int hash;
+
+    private WorldKey(String value) {
+        this.value = value;
+        this.hash = value.hashCode();
+    }
+
+    public static WorldKey of(String worldName) {
+        if (worldName == null) {
+            return null;
+        }
+        WorldKey key = INTERNED.get(worldName);
+        if (key != null) {
+            return key;
+        }
+        String canonical = worldName.trim().toLowerCase(Locale.ROOT);
+        if (canonical.isEmpty()) {
+            return null;
+        }
+        key = INTERNED.get(canonical);
+        return key != null ? key : new WorldKey(canonical);
+    }
+
+    public static WorldKey intern(String worldName) {
+        WorldKey key = of(worldName);
+        if (key == null || INTERNED.size() >= MAX_INTERNED) {
+            return key;
+        }
+        WorldKey existing = INTERNED.putIfAbsent(key.value, key);
+        if (existing != null) {
+            key = existing;
+        }
+        INTERNED.putIfAbsent(worldName, key);
+        return key;
+    }
+
+    public String value() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other
+                || other instanceof WorldKey key && hash == key.hash && value.equals(key.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
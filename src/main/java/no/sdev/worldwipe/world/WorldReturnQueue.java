@@ -0,0 +1,206 @@
+package no.sdev.worldwipe.world;
+
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.Universe;
+import com.hypixel.hytale.server.core.universe.world.World;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public final class WorldReturnQueue {
+
+    private static final String CHAT_TITLE = "[WorldWipe] ";
+    private static final String COLOR_ACCENT = "#F59E0B";
+    private static final String COLOR_DIM = "#A3A3A3";
+    private static final Duration RETURN_TIMEOUT = Duration.ofSeconds(15);
+
+    private static final PlayerTransferService TRANSFER_SERVICE =
+            new HytalePlayerTransferService();
+
+    private final Map<WorldKey, PendingReturn> pending = new ConcurrentHashMap<>();
+
+    public void record(String worldName, String holdingWorldName, Collection<PlayerRef> players) {
+        if (worldName == null || worldName.isBlank() || holdingWorldName == null || players == null
+                || players.isEmpty()) {
+            return;
+        }
+        PendingReturn entry = pending.computeIfAbsent(
+                WorldKey.of(worldName),
+                key -> new PendingReturn(holdingWorldName)
+        );
+        synchronized (entry) {
+            for (PlayerRef playerRef : players) {
+                if (playerRef != null) {
+                    entry.players.addLast(playerRef);
+                }
+            }
+        }
+    }
+
+    public void discard(String worldName) {
+        if (worldName == null || worldName.isBlank()) {
+            return;
+        }
+        pending.remove(WorldKey.of(worldName));
+    }
+
+    public void clear() {
+        pending.clear();
+    }
+
+    public CompletableFuture<Void> release(
+            ScheduledExecutorService scheduler,
+            World regeneratedWorld,
+            Duration warmup,
+            int batchSize,
+            Duration interval
+    ) {
+        Objects.requireNonNull(scheduler, "scheduler");
+        if (regeneratedWorld == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        PendingReturn entry = pending.remove(WorldKey.of(regeneratedWorld.getName()));
+        if (entry == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        long warmupMillis = warmup != null ? Math.max(0L, warmup.toMillis()) : 0L;
+        long intervalMillis = interval != null ? Math.max(0L, interval.toMillis()) : 0L;
+        int resolvedBatchSize = Math.max(1, batchSize);
+        Message notice = Message.raw(CHAT_TITLE).color(COLOR_ACCENT)
+                .insert(Message.raw("'" + regeneratedWorld.getName() + "' has been reset. Returning you now.")
+                        .color(COLOR_DIM));
+
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        ReleaseRun run = new ReleaseRun(scheduler, regeneratedWorld, entry, resolvedBatchSize, intervalMillis, notice, done);
+        scheduleBatch(run, warmupMillis);
+        return done;
+    }
+
+    private void scheduleBatch(ReleaseRun run, long delayMillis) {
+        try {
+            run.scheduler.schedule(() -> releaseBatch(run), delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RuntimeException e) {
+            run.done.completeExceptionally(e);
+        }
+    }
+
+    private void releaseBatch(ReleaseRun run) {
+        try {
+            Universe universe = Universe.get();
+            if (universe == null) {
+                run.done.complete(null);
+                return;
+            }
+            releaseBatch(universe, run);
+        } catch (RuntimeException e) {
+            run.done.completeExceptionally(e);
+        }
+    }
+
+    private void releaseBatch(Universe universe, ReleaseRun run) {
+        PendingReturn entry = run.entry;
+
+        Map<World, List<PlayerRef>> batch = new LinkedHashMap<>();
+        boolean more;
+        synchronized (entry) {
+            int taken = 0;
+            while (taken < run.batchSize && !entry.players.isEmpty()) {
+                PlayerRef playerRef = entry.players.pollFirst();
+                World current = resolveCurrentWorld(universe, playerRef);
+                if (current == null || !entry.holdingWorldName.equalsIgnoreCase(current.getName())) {
+                    continue;
+                }
+                batch.computeIfAbsent(current, world -> new ArrayList<>()).add(playerRef);
+                taken++;
+            }
+            more = !entry.players.isEmpty();
+        }
+
+        List<CompletableFuture<?>> transfers = new ArrayList<>();
+        for (Map.Entry<World, List<PlayerRef>> group : batch.entrySet()) {
+            World holdingWorld = group.getKey();
+            List<PlayerRef> players = group.getValue();
+            holdingWorld.execute(() -> {
+                for (PlayerRef playerRef : players) {
+                    playerRef.sendMessage(run.notice);
+                }
+            });
+            transfers.add(TRANSFER_SERVICE.transferPlayers(holdingWorld, run.regeneratedWorld, players, RETURN_TIMEOUT));
+        }
+
+        CompletableFuture.allOf(transfers.toArray(CompletableFuture[]::new)).whenComplete((ignored, error) -> {
+            if (error != null && run.failure == null) {
+                run.failure = error;
+            }
+            if (more) {
+                scheduleBatch(run, run.intervalMillis);
+            } else if (run.failure != null) {
+                run.done.completeExceptionally(run.failure);
+            } else {
+                run.done.complete(null);
+            }
+        });
+    }
+
+    private static World resolveCurrentWorld(Universe universe, PlayerRef playerRef) {
+        if (playerRef == null || playerRef.getWorldUuid() == null) {
+            return null;
+        }
+        try {
+            return universe.getWorld(playerRef.getWorldUuid());
+        } catch (Exception ignored) {
+            return null;
+        }
+    }
+
+    private static final class ReleaseRun {
+        private final ScheduledExecutorService scheduler;
+        private final World regeneratedWorld;
+        private final PendingReturn entry;
+        private final int batchSize;
+        private final long intervalMillis;
+        private final Message notice;
+        private final CompletableFuture<Void> done;
+        private volatile Throwable failure;
+
+        private ReleaseRun(
+                ScheduledExecutorService scheduler,
+                World regeneratedWorld,
+                PendingReturn entry,
+                int batchSize,
+                long intervalMillis,
+                Message notice,
+                CompletableFuture<Void> done
+        ) {
+            this.scheduler = scheduler;
+            this.regeneratedWorld = regeneratedWorld;
+            this.entry = entry;
+            this.batchSize = batchSize;
+            this.intervalMillis = intervalMillis;
+            this.notice = notice;
+            this.done = done;
+        }
+    }
+
+    private static final class PendingReturn {
+        private final String holdingWorldName;
+        private final Deque<PlayerRef> players = new ArrayDeque<>();
+
+        private PendingReturn(String holdingWorldName) {
+            this.holdingWorldName = holdingWorldName;
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package no.sdev.worldwipe.world;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+public final class WorldRuleMatcher<T> {
+
+    public static final String REGEX_PREFIX = "regex:";
+
+    private static final int NO_MATCH = Integer.MAX_VALUE;
+    private static final int MAX_CACHED_STATES = 65536;
+
+    private final List<T> values;
+    private final List<String> invalidPatterns;
+    private final int[] ruleIndex;
+    private final int[] stateRule;
+    private final boolean[] stateEnd;
+    private final char[] stateToken;
+    private final Map<Character, Integer> symbols;
+    private final int[] asciiSymbols = new int[128];
+    private final Map<Members, State> states = new HashMap<>();
+    private final State start;
+    private final Pattern regex;
+    private final int[] regexRules;
+    private final Pattern[] separateRegexes;
+    private final int[] separateRules;
+
+    private WorldRuleMatcher(Map<String, T> rules) {
+        List<T> ruleValues = new ArrayList<>();
+        List<String> invalid = new ArrayList<>();
+        List<String> globs = new ArrayList<>();
+        List<Integer> globRules = new ArrayList<>();
+        StringBuilder combined = new StringBuilder();
+        List<Integer> regexRuleList = new ArrayList<>();
+        List<Pattern> separate = new ArrayList<>();
+        List<Integer> separateRuleList = new ArrayList<>();
+
+        for (Map.Entry<String, T> rule : rules.entrySet()) {
+            String pattern = rule.getKey() != null ? rule.getKey().trim() : "";
+            if (pattern.isEmpty()) {
+                continue;
+            }
+            int index = ruleValues.size();
+            if (pattern.regionMatches(true, 0, REGEX_PREFIX, 0, REGEX_PREFIX.length())) {
+                String expression = pattern.substring(REGEX_PREFIX.length());
+                Pattern compiled;
+                try {
+                    compiled = Pattern.compile(expression, Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+                } catch (PatternSyntaxException e) {
+                    invalid.add(pattern);
+                    continue;
+                }
+                ruleValues.add(rule.getValue());
+                if (refersToGroups(expression)) {
+                    separate.add(compiled);
+                    separateRuleList.add(index);
+                    continue;
+                }
+                if (!combined.isEmpty()) {
+                    combined.append('|');
+                }
+                combined.append("(?<r").append(regexRuleList.size()).append(">").append(expression).append(')');
+                regexRuleList.add(index);
+            } else {
+                globs.add(pattern.toLowerCase(Locale.ROOT));
+                globRules.add(index);
+                ruleValues.add(rule.getValue());
+            }
+        }
+
+        this.values = List.copyOf(ruleValues);
+        this.invalidPatterns = List.copyOf(invalid);
+        this.regexRules = regexRuleList.stream().mapToInt(Integer::intValue).toArray();
+        this.separateRegexes = separate.toArray(new Pattern[0]);
+        this.separateRules = separateRuleList.stream().mapToInt(Integer::intValue).toArray();
+        this.regex = combined.isEmpty()
+                ? null
+                : Pattern.compile(combined.toString(), Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+
+        int stateCount = 0;
+        for (String glob : globs) {
+            stateCount += glob.length() + 1;
+        }
+        this.ruleIndex = new int[globs.size()];
+        this.stateRule = new int[stateCount];
+        this.stateEnd = new boolean[stateCount];
+        this.stateToken = new char[stateCount];
+        this.symbols = new HashMap<>();
+        BitSet initial = new BitSet(stateCount);
+        int offset = 0;
+        for (int i = 0; i < globs.size(); i++) {
+            String glob = globs.get(i);
+            ruleIndex[i] = globRules.get(i);
+            initial.set(offset);
+            for (int position = 0; position <= glob.length(); position++) {
+                stateRule[offset + position] = i;
+                stateEnd[offset + position] = position == glob.length();
+                char token = position < glob.length() ? glob.charAt(position) : 0;
+                stateToken[offset + position] = token;
+                if (position < glob.length() && token != '*' && token != '?') {
+                    symbols.computeIfAbsent(token, ignored -> symbols.size() + 1);
+                }
+            }
+            offset += glob.length() + 1;
+        }
+        for (Map.Entry<Character, Integer> symbol : symbols.entrySet()) {
+            if (symbol.getKey() < asciiSymbols.length) {
+                asciiSymbols[symbol.getKey()] = symbol.getValue();
+            }
+        }
+        this.start = state(closure(initial));
+    }
+
+    public static <T> WorldRuleMatcher<T> compile(Map<String, T> rules) {
+        return new WorldRuleMatcher<>(rules != null ? rules : Map.of());
+    }
+
+    public boolean isEmpty() {
+        return values.isEmpty();
+    }
+
+    public List<String> invalidPatterns() {
+        return invalidPatterns;
+    }
+
+    public T match(String worldName) {
+        if (worldName == null || values.isEmpty()) {
+            return null;
+        }
+        String name = worldName.trim();
+        int best = matchGlobs(name);
+        if (regex != null && regexRules[0] < best) {
+            Matcher matcher = regex.matcher(name);
+            if (matcher.matches()) {
+                for (int i = 0; i < regexRules.length && regexRules[i] < best; i++) {
+                    if (matcher.group("r" + i) != null) {
+                        best = regexRules[i];
+                        break;
+                    }
+                }
+            }
+        }
+        for (int i = 0; i < separateRegexes.length && separateRules[i] < best; i++) {
+            if (separateRegexes[i].matcher(name).matches()) {
+                best = separateRules[i];
+                break;
+            }
+        }
+        return best == NO_MATCH ? null : values.get(best);
+    }
+
+    private static boolean refersToGroups(String expression) {
+        for (int i = 0; i < expression.length() - 1; i++) {
+            char c = expression.charAt(i);
+            char next = expression.charAt(i + 1);
+            if (c == '\\') {
+                if ((next >= '1' && next <= '9') || next == 'k') {
+                    return true;
+                }
+                i++;
+            } else if (c == '(' && next == '?' && i + 3 < expression.length()
+                    && expression.charAt(i + 2) == '<'
+                    && expression.charAt(i + 3) != '='
+                    && expression.charAt(i + 3) != '!') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int matchGlobs(String name) {
+        State current = start;
+        for (int i = 0; i < name.length() && !current.dead; i++) {
+            int symbol = symbol(Character.toLowerCase(name.charAt(i)));
+            State next = current.next.get(symbol);
+            if (next == null) {
+                next = step(current, symbol);
+            }
+            current = next;
+        }
+        return current.accept;
+    }
+
+    private int symbol(char c) {
+        if (c < asciiSymbols.length) {
+            return asciiSymbols[c];
+        }
+        Integer symbol = symbols.get(c);
+        return symbol != null ? symbol : 0;
+    }
+
+    private State step(State from, int symbol) {
+        BitSet next = new BitSet(stateRule.length);
+        for (int s : from.members) {
+            char token = stateToken[s];
+            if (stateEnd[s]) {
+                continue;
+            }
+            if (token == '*') {
+                next.set(s);
+            } else if (token == '?' || symbol(token) == symbol && symbol != 0) {
+                next.set(s + 1);
+            }
+        }
+        synchronized (states) {
+            State target = state(closure(next));
+            if (target.cached) {
+                from.next.set(symbol, target);
+            }
+            return target;
+        }
+    }
+
+    private BitSet closure(BitSet set) {
+        for (int s = set.nextSetBit(0); s >= 0; s = set.nextSetBit(s + 1)) {
+            if (!stateEnd[s] && stateToken[s] == '*') {
+                set.set(s + 1);
+            }
+        }
+        return set;
+    }
+
+    private State state(BitSet set) {
+        Members key = new Members(set.stream().toArray());
+        State existing = states.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        int accept = NO_MATCH;
+        for (int s : key.states()) {
+            if (stateEnd[s]) {
+                accept = Math.min(accept, ruleIndex[stateRule[s]]);
+            }
+        }
+        boolean cache = states.size() < MAX_CACHED_STATES;
+        State created = new State(key.states(), accept, symbols.size() + 1, cache);
+        if (cache) {
+            states.put(key, created);
+        }
+        return created;
+    }
+
+    private record Members(int[] states) {
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Members members && Arrays.equals(states, members.states);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(states);
+        }
+    }
+
+    private static final class State {
+        private final int[] members;
+        private final int accept;
+        private final boolean dead;
+        private final boolean cached;
+        private final AtomicReferenceArray<State> next;
+
+        private State(int[] members, int accept, int symbols, boolean cached) {
+            this.members = members;
+            this.accept = accept;
+            this.dead = members.length == 0;
+            this.cached = cached;
+            this.next = new AtomicReferenceArray<>(symbols);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package no.sdev.worldwipe.commands;
+
+import no.sdev.worldwipe.WorldWipePlugin;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScheduleTableTest {
+
+    @Test
+    void parsesCsvRowsWithDefaults() {
+        ScheduleTable.Parsed parsed = ScheduleTable.parseCsv(String.join("\n",
+                "world,mode,day,time,zone",
+                "# comment",
+                "mine,WEEKLY,friday,04:30,UTC",
+                "arena,monthly,15,,",
+                "hub"
+        ));
+
+        assertEquals(List.of(), parsed.errors());
+        assertEquals(List.of(
+                new WorldWipePlugin.ScheduleChange(
+                        "mine", WorldWipePlugin.ScheduleMode.WEEKLY, DayOfWeek.FRIDAY, 1, LocalTime.of(4, 30), "UTC"),
+                new WorldWipePlugin.ScheduleChange(
+                        "arena", WorldWipePlugin.ScheduleMode.MONTHLY, DayOfWeek.MONDAY, 15, LocalTime.of(6, 0), "system"),
+                new WorldWipePlugin.ScheduleChange(
+                        "hub", WorldWipePlugin.ScheduleMode.WEEKLY, DayOfWeek.MONDAY, 1, LocalTime.of(6, 0), "system")
+        ), parsed.changes());
+    }
+
+    @Test
+    void reportsInvalidCsvRowsByLine() {
+        ScheduleTable.Parsed parsed = ScheduleTable.parseCsv(String.join("\n",
+                "mine,HOURLY",
+                "arena,WEEKLY,someday",
+                "end,DAILY,,25:00",
+                "nether,DAILY,,,Mars/Base",
+                "Nether,REMOVE",
+                "a,b,c,d,e,f"
+        ));
+
+        assertEquals(List.of(), parsed.changes());
+        assertEquals(6, parsed.errors().size());
+        assertTrue(parsed.errors().get(0).startsWith("line 6: too many columns"));
+        assertTrue(parsed.errors().get(1).startsWith("line 1: invalid mode"));
+        assertTrue(parsed.errors().get(5).contains("listed more than once"));
+    }
+
+    @Test
+    void parsesYamlIncludingSexagesimalTimes() {
+        ScheduleTable.Parsed parsed = ScheduleTable.parseYaml(String.join("\n",
+                "schedules:",
+                "  - world: mine",
+                "    mode: DAILY",
+                "    time: 04:30",
+                "  - world: arena",
+                "    mode: MONTHLY",
+                "    day: 3",
+                "    time: \"21:15\"",
+                "  - world: old",
+                "    remove: true"
+        ));
+
+        assertEquals(List.of(), parsed.errors());
+        assertEquals(3, parsed.changes().size());
+        assertEquals(LocalTime.of(4, 30), parsed.changes().get(0).time());
+        assertEquals(3, parsed.changes().get(1).dayOfMonth());
+        assertEquals(LocalTime.of(21, 15), parsed.changes().get(1).time());
+        assertEquals(WorldWipePlugin.ScheduleChange.remove("old"), parsed.changes().get(2));
+    }
+
+    @Test
+    void reportsMalformedYaml() {
+        assertEquals(1, ScheduleTable.parseYaml("schedules: [unclosed").errors().size());
+        assertEquals(
+                List.of("Expected a list of schedule entries."),
+                ScheduleTable.parseYaml("world: mine").errors()
+        );
+        assertTrue(ScheduleTable.parseYaml("").changes().isEmpty());
+    }
+
+    @Test
+    void worldCheckRejectsSchedulesButNotRemovals() {
+        ScheduleTable.WorldCheck check = world -> world.equals("hub") ? "world 'hub' is protected." : null;
+
+        ScheduleTable.Parsed parsed = ScheduleTable.parseCsv("hub,DAILY\nhub2,DAILY\n", check);
+        assertEquals(List.of("line 1: world 'hub' is protected."), parsed.errors());
+        assertEquals(1, parsed.changes().size());
+
+        parsed = ScheduleTable.parseYaml("- world: hub\n  remove: true\n", check);
+        assertEquals(List.of(), parsed.errors());
+        assertEquals(List.of(WorldWipePlugin.ScheduleChange.remove("hub")), parsed.changes());
+    }
+}
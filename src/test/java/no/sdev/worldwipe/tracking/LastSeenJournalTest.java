@@ -0,0 +1,173 @@
+package no.sdev.worldwipe.tracking;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LastSeenJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void snapshotAndJournalRoundTrip() throws IOException {
+        Map<UUID, Long> expected = records(500, new Random(1));
+        try (LastSeenJournal journal = journal()) {
+            journal.compact(sorted(expected));
+            UUID late = new UUID(7L, 7L);
+            journal.append(late.getMostSignificantBits(), late.getLeastSignificantBits(), 99L);
+            expected.put(late, 99L);
+            assertEquals(1, journal.pendingRecords());
+        }
+
+        try (LastSeenJournal journal = journal()) {
+            assertEquals(expected, load(journal));
+            assertEquals(1L, journal.journalRecords());
+        }
+    }
+
+    @Test
+    void laterJournalRecordsOverrideSnapshot() throws IOException {
+        UUID key = new UUID(1L, 2L);
+        try (LastSeenJournal journal = journal()) {
+            journal.compact(sorted(Map.of(key, 1L)));
+            journal.append(1L, 2L, 2L);
+            journal.append(1L, 2L, 3L);
+            journal.flush();
+        }
+
+        try (LastSeenJournal journal = journal()) {
+            assertEquals(Map.of(key, 3L), load(journal));
+        }
+    }
+
+    @Test
+    void truncatesTornJournalTail() throws IOException {
+        try (LastSeenJournal journal = journal()) {
+            journal.append(1L, 1L, 1L);
+            journal.append(2L, 2L, 2L);
+        }
+        try (FileChannel channel = FileChannel.open(journalPath(), StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(new byte[LastSeenJournal.RECORD_BYTES / 2]));
+        }
+
+        try (LastSeenJournal journal = journal()) {
+            assertEquals(2, load(journal).size());
+            assertEquals(2L, journal.journalRecords());
+        }
+        assertEquals(2L * LastSeenJournal.RECORD_BYTES, Files.size(journalPath()));
+    }
+
+    @Test
+    void corruptSnapshotFallsBackToBackupAndReplaysPreviousJournal() throws IOException {
+        Map<UUID, Long> first = records(100, new Random(2));
+        Map<UUID, Long> expected = new LinkedHashMap<>(first);
+        try (LastSeenJournal journal = journal()) {
+            journal.compact(sorted(first));
+            UUID appended = new UUID(42L, 42L);
+            journal.append(appended.getMostSignificantBits(), appended.getLeastSignificantBits(), 5L);
+            journal.flush();
+            expected.put(appended, 5L);
+
+            Map<UUID, Long> second = new LinkedHashMap<>(expected);
+            second.put(new UUID(43L, 43L), 6L);
+            journal.compact(sorted(second));
+        }
+        corrupt(snapshotPath());
+
+        try (LastSeenJournal journal = journal()) {
+            assertTrue(journal.readableSnapshot().getFileName().toString().endsWith(".bak"));
+            assertEquals(expected, load(journal));
+        }
+    }
+
+    @Test
+    void ignoresSnapshotsWithoutValidCopy() throws IOException {
+        try (LastSeenJournal journal = journal()) {
+            journal.compact(sorted(records(10, new Random(3))));
+        }
+        corrupt(snapshotPath());
+
+        try (LastSeenJournal journal = journal()) {
+            assertNull(journal.readableSnapshot());
+            assertTrue(load(journal).isEmpty());
+        }
+    }
+
+    @Test
+    void mappedSnapshotFindsEveryRecordInKeyOrder() throws IOException {
+        Map<UUID, Long> expected = records(1_000, new Random(4));
+        try (LastSeenJournal journal = journal()) {
+            journal.compact(sorted(expected));
+        }
+
+        assertTrue(LastSeenJournal.isSorted(snapshotPath()));
+        MappedLastSeenSnapshot snapshot = MappedLastSeenSnapshot.open(snapshotPath());
+        assertEquals(expected.size(), snapshot.count());
+        expected.forEach((key, value) ->
+                assertEquals(value, snapshot.get(key.getMostSignificantBits(), key.getLeastSignificantBits())));
+        assertEquals(LastSeenMap.MISSING, snapshot.get(0L, 0L));
+        for (int i = 1; i < snapshot.count(); i++) {
+            assertTrue(LastSeenRecords.compareKeys(
+                    snapshot.mostSignificant(i - 1),
+                    snapshot.leastSignificant(i - 1),
+                    snapshot.mostSignificant(i),
+                    snapshot.leastSignificant(i)
+            ) < 0);
+        }
+    }
+
+    private LastSeenJournal journal() {
+        return new LastSeenJournal(snapshotPath(), journalPath());
+    }
+
+    private Path snapshotPath() {
+        return directory.resolve("last-seen.bin");
+    }
+
+    private Path journalPath() {
+        return directory.resolve("last-seen.journal");
+    }
+
+    private static Map<UUID, Long> load(LastSeenJournal journal) throws IOException {
+        Map<UUID, Long> loaded = new LinkedHashMap<>();
+        journal.load((msb, lsb, value) -> loaded.put(new UUID(msb, lsb), value));
+        return loaded;
+    }
+
+    private static LastSeenRecords sorted(Map<UUID, Long> records) {
+        LastSeenRecords sorted = new LastSeenRecords(records.size());
+        records.forEach((key, value) ->
+                sorted.add(key.getMostSignificantBits(), key.getLeastSignificantBits(), value));
+        sorted.sort();
+        return sorted;
+    }
+
+    private static Map<UUID, Long> records(int count, Random random) {
+        Map<UUID, Long> records = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            records.put(new UUID(random.nextLong(), random.nextLong()), (long) random.nextInt(1_000_000));
+        }
+        return records;
+    }
+
+    private static void corrupt(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {0x7F}), channel.size() - 1);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package no.sdev.worldwipe.tracking;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LastSeenMapTest {
+
+    @Test
+    void putReplacesAndReturnsPreviousValue() {
+        LastSeenMap map = new LastSeenMap();
+        UUID key = UUID.randomUUID();
+
+        assertEquals(LastSeenMap.MISSING, map.put(key, 1L));
+        assertEquals(1L, map.put(key, 2L));
+        assertEquals(2L, map.get(key));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void rejectsMissingAsValue() {
+        LastSeenMap map = new LastSeenMap();
+
+        assertThrows(IllegalArgumentException.class, () -> map.put(UUID.randomUUID(), LastSeenMap.MISSING));
+        assertThrows(IllegalArgumentException.class, () -> new LastSeenMap(3));
+    }
+
+    @Test
+    void growsStripesWithoutLosingEntries() {
+        LastSeenMap map = new LastSeenMap(2);
+        Map<UUID, Long> expected = fill(map, 20_000, new Random(1));
+
+        assertEquals(expected.size(), map.size());
+        expected.forEach((key, value) -> assertEquals(value, map.get(key)));
+    }
+
+    @Test
+    void removalKeepsCollidingEntriesReachable() {
+        LastSeenMap map = new LastSeenMap(2);
+        Map<UUID, Long> expected = fill(map, 5_000, new Random(2));
+        List<UUID> keys = new ArrayList<>(expected.keySet());
+
+        for (int i = 0; i < keys.size(); i += 2) {
+            assertTrue(map.remove(keys.get(i)));
+            assertFalse(map.remove(keys.get(i)));
+            expected.remove(keys.get(i));
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (int i = 0; i < keys.size(); i++) {
+            long value = map.get(keys.get(i));
+            assertEquals(i % 2 == 0 ? LastSeenMap.MISSING : expected.get(keys.get(i)), value);
+        }
+    }
+
+    @Test
+    void conditionalRemovalChecksCurrentValue() {
+        LastSeenMap map = new LastSeenMap();
+        UUID key = UUID.randomUUID();
+        long msb = key.getMostSignificantBits();
+        long lsb = key.getLeastSignificantBits();
+        map.put(key, 5L);
+
+        assertFalse(map.remove(msb, lsb, 4L));
+        assertFalse(map.remove(msb, lsb, value -> value > 5L));
+        assertTrue(map.remove(msb, lsb, 5L));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void removeIfDropsMatchingValuesOnly() {
+        LastSeenMap map = new LastSeenMap(2);
+        Map<UUID, Long> expected = fill(map, 4_000, new Random(3));
+        long odd = expected.values().stream().filter(value -> (value & 1L) == 1L).count();
+
+        assertEquals(odd, map.removeIf(value -> (value & 1L) == 1L));
+        assertEquals(expected.size() - odd, map.size());
+        expected.forEach((key, value) ->
+                assertEquals((value & 1L) == 1L ? LastSeenMap.MISSING : value, map.get(key)));
+
+        long[] visited = {0L};
+        map.forEach((msb, lsb, value) -> {
+            assertEquals(0L, value & 1L);
+            visited[0]++;
+        });
+        assertEquals(map.size(), visited[0]);
+
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertEquals(LastSeenMap.MISSING, map.get(expected.keySet().iterator().next()));
+    }
+
+    private static Map<UUID, Long> fill(LastSeenMap map, int count, Random random) {
+        Map<UUID, Long> expected = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            UUID key = new UUID(random.nextLong(), random.nextLong());
+            long value = random.nextInt(1_000_000);
+            map.put(key, value);
+            expected.put(key, value);
+        }
+        return expected;
+    }
+}
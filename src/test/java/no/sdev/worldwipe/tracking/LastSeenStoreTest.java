@@ -0,0 +1,109 @@
+package no.sdev.worldwipe.tracking;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LastSeenStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void mappedCompactionMergesHeapOverSnapshot() throws IOException {
+        UUID kept = new UUID(1L, 1L);
+        UUID updated = new UUID(2L, 2L);
+        UUID added = new UUID(3L, 3L);
+        int today = LastSeenStore.today();
+        try (LastSeenStore store = store(LastSeenStore.Backing.MAPPED)) {
+            store.put(kept, 10L, today);
+            store.put(updated, 10L, today);
+            store.compact();
+            assertEquals(2, store.size());
+
+            store.put(updated, 20L, today);
+            store.put(added, 30L, today);
+            assertEquals(3, store.size());
+            store.compact();
+            assertEquals(3, store.size());
+        }
+
+        try (LastSeenStore store = store(LastSeenStore.Backing.MAPPED)) {
+            store.load();
+            assertEquals(10L, store.get(kept));
+            assertEquals(20L, store.get(updated));
+            assertEquals(30L, store.get(added));
+            assertEquals(3, store.size());
+        }
+    }
+
+    @Test
+    void journalReplayOverridesMappedSnapshot() throws IOException {
+        UUID player = new UUID(4L, 4L);
+        int today = LastSeenStore.today();
+        try (LastSeenStore store = store(LastSeenStore.Backing.MAPPED)) {
+            store.put(player, 10L, today);
+            store.compact();
+            store.append(player, store.put(player, 11L, today));
+        }
+
+        try (LastSeenStore store = store(LastSeenStore.Backing.MAPPED)) {
+            store.load();
+            assertEquals(11L, store.get(player));
+            assertEquals(1, store.size());
+            assertEquals(1L, store.journalRecords());
+        }
+    }
+
+    @Test
+    void retentionHidesAndCompactionDropsExpiredEntries() throws IOException {
+        UUID recent = new UUID(5L, 5L);
+        UUID stale = new UUID(6L, 6L);
+        int today = LastSeenStore.today();
+        try (LastSeenStore store = store(LastSeenStore.Backing.HEAP)) {
+            store.put(recent, 1L, today);
+            store.put(stale, 1L, today - 30);
+            store.setRetentionDays(7);
+
+            assertFalse(store.expire());
+            assertEquals(1L, store.get(recent));
+            assertEquals(LastSeenMap.MISSING, store.get(stale));
+            assertEquals(1, store.purge());
+            store.compact();
+        }
+
+        try (LastSeenStore store = store(LastSeenStore.Backing.HEAP)) {
+            store.load();
+            assertEquals(1, store.size());
+            assertTrue(store.get(recent) != LastSeenMap.MISSING);
+        }
+    }
+
+    @Test
+    void pruneHidesEntriesBelowMinimumEpoch() {
+        UUID player = new UUID(7L, 7L);
+        LastSeenStore store = store(LastSeenStore.Backing.HEAP);
+        store.put(player, 3L);
+
+        store.prune(4L);
+        assertEquals(LastSeenMap.MISSING, store.get(player));
+        store.prune(3L);
+        assertEquals(3L, store.get(player));
+    }
+
+    private LastSeenStore store(LastSeenStore.Backing backing) {
+        LastSeenStore store = new LastSeenStore(
+                directory.resolve("last-seen.bin"),
+                directory.resolve("last-seen.journal")
+        );
+        store.setBacking(backing);
+        return store;
+    }
+}
@@ -0,0 +1,55 @@
+package no.sdev.worldwipe.ui;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DashboardPagerTest {
+
+    private static final List<String> WORLDS = List.of("a", "b", "c", "d", "e", "f", "g");
+
+    @Test
+    void followsSelectedWorldOnlyWhenSelectionChanges() {
+        DashboardPager pager = new DashboardPager();
+
+        assertEquals(List.of("g"), pager.window(WORLDS, "G", 3));
+        assertEquals("Page 3/3", pager.label());
+        assertTrue(pager.turn("first"));
+        assertEquals(List.of("a", "b", "c"), pager.window(WORLDS, "G", 3));
+    }
+
+    @Test
+    void turnsAndClampsPages() {
+        DashboardPager pager = new DashboardPager();
+        pager.window(WORLDS, null, 3);
+
+        assertFalse(pager.hasPrevious());
+        assertFalse(pager.turn("prev"));
+        assertTrue(pager.turn("next"));
+        assertTrue(pager.turn("last"));
+        assertFalse(pager.turn("99"));
+        assertFalse(pager.hasNext());
+        assertTrue(pager.turn("2"));
+        assertFalse(pager.turn("bogus"));
+        assertEquals(List.of("d", "e", "f"), pager.window(WORLDS, null, 3));
+        assertEquals("e", pager.world("1"));
+        assertNull(pager.world("3"));
+        assertNull(pager.world("x"));
+    }
+
+    @Test
+    void clampsPageWhenWorldListShrinks() {
+        DashboardPager pager = new DashboardPager();
+        pager.window(WORLDS, null, 2);
+        pager.turn("last");
+
+        assertEquals(List.of("a"), pager.window(List.of("a"), null, 2));
+        assertFalse(pager.paged());
+        assertEquals("Page 1/1", pager.label());
+    }
+}
@@ -0,0 +1,37 @@
+package no.sdev.worldwipe.world;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class WorldKeyTest {
+
+    @Test
+    void keysCompareByCanonicalName() {
+        assertEquals(WorldKey.of(" Hub "), WorldKey.of("hub"));
+        assertEquals(WorldKey.of("HUB").hashCode(), WorldKey.of("hub").hashCode());
+        assertEquals("hub", WorldKey.of("  HuB").value());
+        assertNull(WorldKey.of("   "));
+        assertNull(WorldKey.of(null));
+    }
+
+    @Test
+    void lookupDoesNotIntern() {
+        WorldKey first = WorldKey.of("lookup-only-world");
+
+        assertNotSame(first, WorldKey.of("lookup-only-world"));
+        assertEquals(first, WorldKey.of("lookup-only-world"));
+    }
+
+    @Test
+    void internedKeysAreSharedAcrossSpellings() {
+        WorldKey interned = WorldKey.intern("Interned-World");
+
+        assertSame(interned, WorldKey.intern("interned-world"));
+        assertSame(interned, WorldKey.of("Interned-World"));
+        assertSame(interned, WorldKey.of(" INTERNED-world "));
+    }
+}
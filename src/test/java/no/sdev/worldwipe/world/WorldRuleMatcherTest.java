@@ -0,0 +1,92 @@
+package no.sdev.worldwipe.world;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WorldRuleMatcherTest {
+
+    @Test
+    void globsMatchWholeNameIgnoringCase() {
+        WorldRuleMatcher<String> matcher = WorldRuleMatcher.compile(rules(
+                "arena-?", "single",
+                "mine*", "prefix",
+                "*_event_*", "infix"
+        ));
+
+        assertEquals("single", matcher.match("Arena-1"));
+        assertNull(matcher.match("arena-10"));
+        assertEquals("prefix", matcher.match("mine"));
+        assertEquals("prefix", matcher.match("MINE_world"));
+        assertEquals("infix", matcher.match("spring_event_2026"));
+        assertNull(matcher.match("hub"));
+        assertNull(matcher.match(null));
+    }
+
+    @Test
+    void firstMatchingRuleWins() {
+        WorldRuleMatcher<String> matcher = WorldRuleMatcher.compile(rules(
+                "regex:mine_\\d+", "numbered",
+                "mine*", "glob",
+                "regex:mine.*", "regex"
+        ));
+
+        assertEquals("numbered", matcher.match("mine_12"));
+        assertEquals("glob", matcher.match("mine_nether"));
+    }
+
+    @Test
+    void regexAlternationStaysInsideItsRule() {
+        WorldRuleMatcher<String> matcher = WorldRuleMatcher.compile(rules(
+                "regex:a|b", "first",
+                "regex:c|d", "second"
+        ));
+
+        assertEquals("first", matcher.match("B"));
+        assertEquals("second", matcher.match("c"));
+        assertNull(matcher.match("ab"));
+    }
+
+    @Test
+    void rulesWithBackreferencesAreMatchedSeparately() {
+        WorldRuleMatcher<String> matcher = WorldRuleMatcher.compile(rules(
+                "regex:(\\w)\\1-.*", "doubled",
+                "regex:(?<side>left|right)-\\k<side>", "named",
+                "regex:(?<!x)z.*", "plain",
+                "*", "fallback"
+        ));
+
+        assertEquals("doubled", matcher.match("aa-world"));
+        assertEquals("named", matcher.match("left-left"));
+        assertEquals("fallback", matcher.match("left-right"));
+        assertEquals("plain", matcher.match("zone"));
+        assertEquals("fallback", matcher.match("ab-world"));
+    }
+
+    @Test
+    void invalidPatternsAreReportedAndSkipped() {
+        WorldRuleMatcher<String> matcher = WorldRuleMatcher.compile(rules(
+                "regex:[unclosed", "broken",
+                " ", "blank",
+                "hub", "hub"
+        ));
+
+        assertEquals(List.of("regex:[unclosed"), matcher.invalidPatterns());
+        assertEquals("hub", matcher.match(" hub "));
+        assertTrue(WorldRuleMatcher.compile(null).isEmpty());
+    }
+
+    private static Map<String, String> rules(String... patternsAndValues) {
+        Map<String, String> rules = new LinkedHashMap<>();
+        for (int i = 0; i < patternsAndValues.length; i += 2) {
+            rules.put(patternsAndValues[i], patternsAndValues[i + 1]);
+        }
+        return rules;
+    }
+}